@@ -24,6 +24,7 @@ import com.gmail.filoghost.holographicdisplays.api.HologramsAPI;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Level;
 
 import me.tigerhix.lib.scoreboard.ScoreboardLib;
@@ -45,11 +46,16 @@ import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaEvents;
 import pl.plajer.villagedefense.arena.ArenaManager;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
+import pl.plajer.villagedefense.arena.ArenaTickScheduler;
 import pl.plajer.villagedefense.arena.ArenaUtils;
+import pl.plajer.villagedefense.arena.SpawnRateController;
+import pl.plajer.villagedefense.arena.wave.WavePlanCompiler;
 import pl.plajer.villagedefense.commands.arguments.ArgumentsRegistry;
 import pl.plajer.villagedefense.creatures.CreatureUtils;
 import pl.plajer.villagedefense.creatures.DoorBreakListener;
 import pl.plajer.villagedefense.creatures.EntityRegistry;
+import pl.plajer.villagedefense.creatures.ZombieHealthBarRenderer;
+import pl.plajer.villagedefense.creatures.ZombieTemplateRegistry;
 import pl.plajer.villagedefense.events.ChatEvents;
 import pl.plajer.villagedefense.events.Events;
 import pl.plajer.villagedefense.events.JoinEvent;
@@ -248,6 +254,8 @@ public class Main extends JavaPlugin {
     userManager = new UserManager(this);
     new DoorBreakListener(this);
 
+    ArenaTickScheduler.init(this);
+    SpawnRateController.init(this);
     ArenaRegistry.registerArenas();
     //we must start it after instances load!
     signManager = new SignManager(this);
@@ -260,6 +268,8 @@ public class Main extends JavaPlugin {
     CompatMaterialConstants.init(this);
     Utils.init(this);
     CreatureUtils.init(this);
+    ZombieHealthBarRenderer.init(this);
+    ZombieTemplateRegistry.reload();
     User.init(this);
     ArenaManager.init(this);
     Kit.init(this);
@@ -267,6 +277,7 @@ public class Main extends JavaPlugin {
     SetupInventory.init(this);
     ArenaUtils.init(this);
     Arena.init(this);
+    WavePlanCompiler.init(this);
     ModuleHelper.init(this);
     ModuleVisualizer.init(this);
   }
@@ -325,7 +336,7 @@ public class Main extends JavaPlugin {
   }
 
   private void setupFiles() {
-    for (String fileName : Arrays.asList("arenas", "rewards", "stats", "special_items", "mysql", "kits")) {
+    for (String fileName : Arrays.asList("arenas", "rewards", "stats", "special_items", "mysql", "kits", "waves")) {
       File file = new File(getDataFolder() + File.separator + fileName + ".yml");
       if (!file.exists()) {
         saveResource(fileName + ".yml", false);
@@ -422,20 +433,17 @@ public class Main extends JavaPlugin {
   }
 
   private void saveAllUserStatistics() {
+    List<User> users = new ArrayList<>();
     for (Player player : getServer().getOnlinePlayers()) {
-      User user = userManager.getUser(player);
-
-      //copy of userManager#saveStatistic but without async database call that's not allowed in onDisable method.
-      for (StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
-        if (!stat.isPersistent()) {
-          continue;
-        }
-        if (userManager.getDatabase() instanceof MysqlManager) {
-          ((MysqlManager) userManager.getDatabase()).getDatabase().executeUpdate("UPDATE playerstats SET " + stat.getName() + "=" + user.getStat(stat) + " WHERE UUID='" + user.getPlayer().getUniqueId().toString() + "';");
-          continue;
-        }
-        userManager.getDatabase().saveStatistic(user, stat);
-      }
+      users.add(userManager.getUser(player));
+    }
+    if (userManager.getDatabase() instanceof MysqlManager) {
+      //writes synchronously, async database calls are not allowed in onDisable method
+      ((MysqlManager) userManager.getDatabase()).getStatsWriter().shutdown(users);
+      return;
+    }
+    for (User user : users) {
+      userManager.saveStatistics(user);
     }
   }
 
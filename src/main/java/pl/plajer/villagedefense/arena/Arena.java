@@ -19,6 +19,7 @@
 package pl.plajer.villagedefense.arena;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
@@ -38,7 +39,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Villager;
 import org.bukkit.entity.Wolf;
 import org.bukkit.entity.Zombie;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import pl.plajer.villagedefense.ConfigPreferences;
@@ -55,6 +56,7 @@ import pl.plajer.villagedefense.arena.states.InGameState;
 import pl.plajer.villagedefense.arena.states.RestartingState;
 import pl.plajer.villagedefense.arena.states.StartingState;
 import pl.plajer.villagedefense.arena.states.WaitingState;
+import pl.plajer.villagedefense.creatures.ZombieHealthBarRenderer;
 import pl.plajer.villagedefense.handlers.language.Messages;
 import pl.plajer.villagedefense.user.User;
 import pl.plajer.villagedefense.utils.Debugger;
@@ -62,18 +64,21 @@ import pl.plajer.villagedefense.utils.Debugger;
 /**
  * Created by Tom on 12/08/2014.
  */
-public abstract class Arena extends BukkitRunnable {
+public abstract class Arena {
 
   private static final Random random = new Random();
   private static Main plugin;
   private final String id;
 
-  private Set<Player> players = new HashSet<>();
-  private List<Zombie> zombies = new ArrayList<>();
-  private List<Wolf> wolves = new ArrayList<>();
-  private List<Villager> villagers = new ArrayList<>();
-  private List<IronGolem> ironGolems = new ArrayList<>();
-  private List<Item> droppedFleshes = new ArrayList<>();
+  private final Set<Player> players = new HashSet<>();
+  private final Set<Player> playersView = Collections.unmodifiableSet(players);
+  //copy of players replaced on every change, safe to read from async threads
+  private volatile Set<Player> playersSnapshot = Collections.emptySet();
+  private final ArenaEntityContainer<Zombie> zombies = new ArenaEntityContainer<>(this, ArenaEntityRegistry.EntityRole.ZOMBIE);
+  private final ArenaEntityContainer<Wolf> wolves = new ArenaEntityContainer<>(this, ArenaEntityRegistry.EntityRole.WOLF);
+  private final ArenaEntityContainer<Villager> villagers = new ArenaEntityContainer<>(this, ArenaEntityRegistry.EntityRole.VILLAGER);
+  private final ArenaEntityContainer<IronGolem> ironGolems = new ArenaEntityContainer<>(this, ArenaEntityRegistry.EntityRole.IRON_GOLEM);
+  private final ArenaEntityContainer<Item> droppedFleshes = new ArenaEntityContainer<>(this, ArenaEntityRegistry.EntityRole.DROPPED_FLESH);
 
   //all arena values that are integers, contains constant and floating values
   private Map<ArenaOption, Integer> arenaOptions = new EnumMap<>(ArenaOption.class);
@@ -87,6 +92,7 @@ public abstract class Arena extends BukkitRunnable {
   private MapRestorerManager mapRestorerManager;
   private ShopManager shopManager;
   private ZombieSpawnManager zombieSpawnManager;
+  private ArenaRegion region;
 
   private ArenaState arenaState = ArenaState.WAITING_FOR_PLAYERS;
   private BossBar gameBar;
@@ -181,7 +187,9 @@ public abstract class Arena extends BukkitRunnable {
     }
   }
 
-  @Override
+  /**
+   * Handles current arena state, called once per second by ArenaTickScheduler
+   */
   public void run() {
     //idle task
     if (getPlayers().isEmpty() && getArenaState() == ArenaState.WAITING_FOR_PLAYERS) {
@@ -257,6 +265,18 @@ public abstract class Arena extends BukkitRunnable {
     return mapRestorerManager;
   }
 
+  /**
+   * @return region of the arena map or null if arena isn't registered or has no start location
+   */
+  @Nullable
+  public ArenaRegion getRegion() {
+    return region;
+  }
+
+  void setRegion(@Nullable ArenaRegion region) {
+    this.region = region;
+  }
+
   public int getMinimumPlayers() {
     return getOption(ArenaOption.MINIMUM_PLAYERS);
   }
@@ -282,6 +302,7 @@ public abstract class Arena extends BukkitRunnable {
    */
   public void setMapName(String mapname) {
     this.mapName = mapname;
+    updateSigns();
   }
 
   /**
@@ -308,6 +329,7 @@ public abstract class Arena extends BukkitRunnable {
 
   public void setMaximumPlayers(int maximumPlayers) {
     setOptionValue(ArenaOption.MAXIMUM_PLAYERS, maximumPlayers);
+    updateSigns();
   }
 
   public ArenaState getArenaState() {
@@ -324,11 +346,58 @@ public abstract class Arena extends BukkitRunnable {
    */
   public void setArenaState(ArenaState arenaState) {
     this.arenaState = arenaState;
+    updateSigns();
     Bukkit.getPluginManager().callEvent(new VillageGameStateChangeEvent(this, getArenaState()));
   }
 
+  /**
+   * Get players in arena (including spectators).
+   * Use addPlayer and removePlayer to modify it
+   *
+   * @return read-only view of arena players
+   * @see #addPlayer(Player)
+   * @see #removePlayer(Player)
+   */
   public Set<Player> getPlayers() {
-    return players;
+    return playersView;
+  }
+
+  /**
+   * Get immutable snapshot of players in arena (including spectators).
+   * Unlike getPlayers it's safe to use from async threads, e.g. in chat events
+   *
+   * @return immutable set of arena players at the time of the last change
+   */
+  public Set<Player> getPlayersSnapshot() {
+    return playersSnapshot;
+  }
+
+  public void addPlayer(Player player) {
+    players.add(player);
+    ArenaRegistry.indexPlayer(player, this);
+    onPlayersChange();
+  }
+
+  public void removePlayer(Player player) {
+    players.remove(player);
+    ArenaRegistry.unindexPlayer(player, this);
+    onPlayersChange();
+  }
+
+  public void clearPlayers() {
+    for (Player player : players) {
+      ArenaRegistry.unindexPlayer(player, this);
+    }
+    players.clear();
+    onPlayersChange();
+  }
+
+  private void onPlayersChange() {
+    playersSnapshot = players.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(players));
+    if (plugin != null && plugin.getUserManager() != null) {
+      plugin.getUserManager().updateArenaUsers(this);
+    }
+    updateSigns();
   }
 
   public Location getLobbyLocation() {
@@ -344,7 +413,8 @@ public abstract class Arena extends BukkitRunnable {
   }
 
   public void setStartLocation(Location location) {
-    gameLocations.put(GameLocation.START, location);
+    Location previous = gameLocations.put(GameLocation.START, location);
+    ArenaRegistry.reindexWorld(this, previous);
   }
 
   public void teleportToEndLocation(Player player) {
@@ -361,7 +431,7 @@ public abstract class Arena extends BukkitRunnable {
 
   public void start() {
     Debugger.debug(Level.INFO, "[{0}] Instance started", this.getId());
-    this.runTaskTimer(plugin, 20L, 20L);
+    ArenaTickScheduler.schedule(this);
     this.setArenaState(ArenaState.WAITING_FOR_PLAYERS);
   }
 
@@ -373,14 +443,36 @@ public abstract class Arena extends BukkitRunnable {
    * Get list of already spawned zombies.
    * This will only return alive zombies not total zombies in current wave.
    *
-   * @return list of spawned zombies in arena
+   * @return read-only list of spawned zombies in arena
    */
   public List<Zombie> getZombies() {
-    return zombies;
+    return zombies.getView();
   }
 
   public void removeZombie(Zombie zombie) {
-    zombies.remove(zombie);
+    if (!zombies.remove(zombie)) {
+      return;
+    }
+    ZombieHealthBarRenderer.forget(zombie);
+    if (zombieSpawnManager != null) {
+      zombieSpawnManager.forgetZombie(zombie);
+    }
+  }
+
+  /**
+   * Clears spawned zombies list and zombies queued to spawn, entities themselves are not removed
+   *
+   * @see ArenaUtils#removeSpawnedZombies(Arena)
+   */
+  public void clearZombies() {
+    for (Zombie zombie : zombies.getView()) {
+      ZombieHealthBarRenderer.forget(zombie);
+    }
+    zombies.clear();
+    if (zombieSpawnManager != null) {
+      zombieSpawnManager.clearSpawnQueue();
+      zombieSpawnManager.clearGlitchChecks();
+    }
   }
 
   public List<Location> getVillagerSpawns() {
@@ -396,7 +488,7 @@ public abstract class Arena extends BukkitRunnable {
   }
 
   public List<Item> getDroppedFleshes() {
-    return droppedFleshes;
+    return droppedFleshes.getView();
   }
 
   public void addDroppedFlesh(Item item) {
@@ -407,8 +499,15 @@ public abstract class Arena extends BukkitRunnable {
     droppedFleshes.remove(item);
   }
 
+  public void clearDroppedFleshes() {
+    droppedFleshes.clear();
+  }
+
+  /**
+   * @return amount of zombies to spawn, queued to spawn and alive in arena
+   */
   public int getZombiesLeft() {
-    return getOption(ArenaOption.ZOMBIES_TO_SPAWN) + getZombies().size();
+    return getOption(ArenaOption.ZOMBIES_TO_SPAWN) + zombieSpawnManager.getQueuedZombies() + getZombies().size();
   }
 
   public int getWave() {
@@ -453,31 +552,39 @@ public abstract class Arena extends BukkitRunnable {
     wolves.add(wolf);
   }
 
+  public void removeWolf(Wolf wolf) {
+    wolves.remove(wolf);
+  }
+
+  public void clearWolves() {
+    wolves.clear();
+  }
+
   /**
    * Get alive wolves.
    *
-   * @return alive wolves in game
+   * @return read-only list of alive wolves in game
    */
   public List<Wolf> getWolves() {
-    return wolves;
+    return wolves.getView();
   }
 
   /**
    * Get alive iron golems.
    *
-   * @return alive iron golems in game
+   * @return read-only list of alive iron golems in game
    */
   public List<IronGolem> getIronGolems() {
-    return ironGolems;
+    return ironGolems.getView();
   }
 
   /**
    * Get alive villagers.
    *
-   * @return alive villagers in game
+   * @return read-only list of alive villagers in game
    */
   public List<Villager> getVillagers() {
-    return villagers;
+    return villagers.getView();
   }
 
   public boolean checkLevelUpRottenFlesh() {
@@ -506,6 +613,15 @@ public abstract class Arena extends BukkitRunnable {
     return plugin;
   }
 
+  /**
+   * Marks arena signs to be rendered again, sign manager doesn't exist yet while arenas are loaded
+   */
+  private void updateSigns() {
+    if (plugin != null && plugin.getSignManager() != null) {
+      plugin.getSignManager().markDirty(this);
+    }
+  }
+
   protected void addZombie(Zombie zombie) {
     zombies.add(zombie);
   }
@@ -520,6 +636,10 @@ public abstract class Arena extends BukkitRunnable {
     villagers.remove(villager);
   }
 
+  public void clearVillagers() {
+    villagers.clear();
+  }
+
   public List<Location> getZombieSpawns() {
     return spawnPoints.get(SpawnPoint.ZOMBIE);
   }
@@ -528,13 +648,20 @@ public abstract class Arena extends BukkitRunnable {
     ironGolems.add(ironGolem);
   }
 
+  public void removeIronGolem(IronGolem ironGolem) {
+    ironGolems.remove(ironGolem);
+  }
+
+  public void clearIronGolems() {
+    ironGolems.clear();
+  }
+
   public void resetOptionValues() {
     setOptionValue(ArenaOption.WAVE, 1);
     setOptionValue(ArenaOption.TOTAL_KILLED_ZOMBIES, 0);
     setOptionValue(ArenaOption.TOTAL_ORBS_SPENT, 0);
     setOptionValue(ArenaOption.ZOMBIE_DIFFICULTY_MULTIPLIER, 0);
-    setOptionValue(ArenaOption.ZOMBIE_IDLE_PROCESS, 0);
-    zombieSpawnManager.applyIdle(0);
+    zombieSpawnManager.resetSpawnCredit();
   }
 
   public int getOption(ArenaOption option) {
@@ -0,0 +1,110 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.entity.Entity;
+
+/**
+ * Container of arena entities with constant time add, remove and contains
+ * and random access by index. Removal swaps removed entity with the last one
+ * so iteration order is not an insertion order.
+ * <p>
+ * All changes are reflected in ArenaEntityRegistry.
+ *
+ * @param <T> type of contained entities
+ * @see ArenaEntityRegistry
+ */
+public class ArenaEntityContainer<T extends Entity> {
+
+  private final Arena arena;
+  private final ArenaEntityRegistry.EntityRole role;
+  private final List<T> entities = new ArrayList<>();
+  private final Map<T, Integer> indexes = new HashMap<>();
+  private final List<T> view = Collections.unmodifiableList(entities);
+
+  public ArenaEntityContainer(Arena arena, ArenaEntityRegistry.EntityRole role) {
+    this.arena = arena;
+    this.role = role;
+  }
+
+  public boolean add(T entity) {
+    if (indexes.containsKey(entity)) {
+      return false;
+    }
+    indexes.put(entity, entities.size());
+    entities.add(entity);
+    ArenaEntityRegistry.registerEntity(entity, arena, role);
+    return true;
+  }
+
+  public boolean remove(T entity) {
+    Integer index = indexes.remove(entity);
+    if (index == null) {
+      return false;
+    }
+    T last = entities.remove(entities.size() - 1);
+    if (index < entities.size()) {
+      entities.set(index, last);
+      indexes.put(last, index);
+    }
+    ArenaEntityRegistry.unregisterEntity(entity);
+    return true;
+  }
+
+  public boolean contains(T entity) {
+    return indexes.containsKey(entity);
+  }
+
+  public T get(int index) {
+    return entities.get(index);
+  }
+
+  public int size() {
+    return entities.size();
+  }
+
+  public boolean isEmpty() {
+    return entities.isEmpty();
+  }
+
+  /**
+   * Clears container, entities themselves are not removed from the world
+   */
+  public void clear() {
+    for (T entity : entities) {
+      ArenaEntityRegistry.unregisterEntity(entity);
+    }
+    entities.clear();
+    indexes.clear();
+  }
+
+  /**
+   * @return read-only live view of contained entities
+   */
+  public List<T> getView() {
+    return view;
+  }
+
+}
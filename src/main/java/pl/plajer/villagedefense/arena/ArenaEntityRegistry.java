@@ -0,0 +1,115 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Global index of entities spawned by arenas.
+ * Allows to check whether entity belongs to any arena
+ * with single lookup instead of iterating all arenas.
+ */
+public class ArenaEntityRegistry {
+
+  private static Map<UUID, EntityOwner> owners = new HashMap<>();
+
+  private ArenaEntityRegistry() {
+  }
+
+  public static void registerEntity(Entity entity, Arena arena, EntityRole role) {
+    owners.put(entity.getUniqueId(), new EntityOwner(arena, role));
+  }
+
+  public static void unregisterEntity(Entity entity) {
+    owners.remove(entity.getUniqueId());
+  }
+
+  /**
+   * Removes all entities owned by target arena from the index
+   *
+   * @param arena arena to unregister entities of
+   */
+  public static void unregisterEntities(Arena arena) {
+    owners.values().removeIf(owner -> owner.getArena().equals(arena));
+  }
+
+  /**
+   * @param entity entity to check
+   * @return owner data of entity or null if entity doesn't belong to any arena
+   */
+  @Nullable
+  public static EntityOwner getOwner(Entity entity) {
+    return owners.get(entity.getUniqueId());
+  }
+
+  /**
+   * @param entity entity to check
+   * @return arena that spawned target entity or null if entity doesn't belong to any arena
+   */
+  @Nullable
+  public static Arena getArena(Entity entity) {
+    EntityOwner owner = owners.get(entity.getUniqueId());
+    return owner == null ? null : owner.getArena();
+  }
+
+  /**
+   * @param entity entity to check
+   * @param role   role entity must have in arena
+   * @return arena that spawned target entity with given role or null if not found
+   */
+  @Nullable
+  public static Arena getArena(Entity entity, EntityRole role) {
+    EntityOwner owner = owners.get(entity.getUniqueId());
+    return owner == null || owner.getRole() != role ? null : owner.getArena();
+  }
+
+  public static boolean isArenaEntity(Entity entity, EntityRole role) {
+    return getArena(entity, role) != null;
+  }
+
+  public enum EntityRole {
+    ZOMBIE, VILLAGER, IRON_GOLEM, WOLF, DROPPED_FLESH
+  }
+
+  public static class EntityOwner {
+
+    private final Arena arena;
+    private final EntityRole role;
+
+    EntityOwner(Arena arena, EntityRole role) {
+      this.arena = arena;
+      this.role = role;
+    }
+
+    public Arena getArena() {
+      return arena;
+    }
+
+    public EntityRole getRole() {
+      return role;
+    }
+
+  }
+
+}
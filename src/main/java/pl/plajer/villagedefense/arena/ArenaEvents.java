@@ -72,10 +72,9 @@ public class ArenaEvents implements Listener {
     if (!(e.getEntity() instanceof Villager && e.getDamager() instanceof Zombie)) {
       return;
     }
-    for (Arena a : ArenaRegistry.getArenas()) {
-      if (a.getVillagers().contains(e.getEntity()) && a.getZombies().contains(e.getDamager())) {
-        e.setCancelled(false);
-      }
+    Arena arena = ArenaEntityRegistry.getArena(e.getEntity(), ArenaEntityRegistry.EntityRole.VILLAGER);
+    if (arena != null && arena.equals(ArenaEntityRegistry.getArena(e.getDamager(), ArenaEntityRegistry.EntityRole.ZOMBIE))) {
+      e.setCancelled(false);
     }
   }
 
@@ -85,37 +84,29 @@ public class ArenaEvents implements Listener {
       return;
     }
     //trick to get non player killer of zombie
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      if (!arena.getZombies().contains(e.getEntity())) {
-        continue;
-      }
-      if (e.getDamage() >= ((LivingEntity) e.getEntity()).getHealth()) {
-        //prevent offline player cast error
-        if (!(((Wolf) e.getDamager()).getOwner() instanceof Player)) {
-          return;
-        }
-        Player player = (Player) ((Wolf) e.getDamager()).getOwner();
-        if (ArenaRegistry.getArena(player) != null) {
-          ArenaUtils.addStat(player, StatsStorage.StatisticType.KILLS);
-          ArenaUtils.addExperience(player, 2);
-        }
+    if (!ArenaEntityRegistry.isArenaEntity(e.getEntity(), ArenaEntityRegistry.EntityRole.ZOMBIE)) {
+      return;
+    }
+    if (e.getDamage() >= ((LivingEntity) e.getEntity()).getHealth()) {
+      //prevent offline player cast error
+      if (!(((Wolf) e.getDamager()).getOwner() instanceof Player)) {
         return;
       }
+      Player player = (Player) ((Wolf) e.getDamager()).getOwner();
+      if (ArenaRegistry.getArena(player) != null) {
+        ArenaUtils.addStat(player, StatsStorage.StatisticType.KILLS);
+        ArenaUtils.addExperience(player, 2);
+      }
     }
   }
 
   @EventHandler
   public void onItemDrop(ItemSpawnEvent e) {
-    if (e.getEntity().getItemStack().getType() != Material.ROTTEN_FLESH) {
+    if (e.getEntity().getItemStack().getType() != Material.ROTTEN_FLESH || !ArenaRegistry.isArenaWorld(e.getEntity().getWorld())) {
       return;
     }
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      if (!e.getEntity().getWorld().equals(arena.getStartLocation().getWorld())) {
-        continue;
-      }
-      if (e.getEntity().getLocation().distance(arena.getStartLocation()) > 150) {
-        continue;
-      }
+    Arena arena = ArenaRegistry.locate(e.getEntity().getLocation());
+    if (arena != null) {
       arena.addDroppedFlesh(e.getEntity());
     }
   }
@@ -132,42 +123,37 @@ public class ArenaEvents implements Listener {
 
   @EventHandler
   public void onDieEntity(EntityDeathEvent e) {
-    if (!(e.getEntity() instanceof Zombie || e.getEntity() instanceof Villager || e.getEntity() instanceof IronGolem)) {
+    ArenaEntityRegistry.EntityOwner owner = ArenaEntityRegistry.getOwner(e.getEntity());
+    if (owner == null) {
       return;
     }
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      switch (e.getEntityType()) {
-        case ZOMBIE:
-          if (!arena.getZombies().contains(e.getEntity())) {
-            continue;
-          }
-          arena.removeZombie((Zombie) e.getEntity());
-          arena.addOptionValue(ArenaOption.TOTAL_KILLED_ZOMBIES, 1);
-          if (ArenaRegistry.getArena(e.getEntity().getKiller()) != null) {
-            ArenaUtils.addStat(e.getEntity().getKiller(), StatsStorage.StatisticType.KILLS);
-            ArenaUtils.addExperience(e.getEntity().getKiller(), 2);
-            plugin.getRewardsHandler().performReward(e.getEntity().getKiller(), Reward.RewardType.ZOMBIE_KILL);
-            plugin.getPowerupRegistry().spawnPowerup(e.getEntity().getLocation(), ArenaRegistry.getArena(e.getEntity().getKiller()));
-          }
-          return;
-        case VILLAGER:
-          if (!arena.getVillagers().contains(e.getEntity())) {
-            return;
-          }
-          arena.getStartLocation().getWorld().strikeLightningEffect(e.getEntity().getLocation());
-          arena.removeVillager((Villager) e.getEntity());
-          plugin.getHolidayManager().applyHolidayDeathEffects(e.getEntity());
-          plugin.getChatManager().broadcast(arena, Messages.VILLAGER_DIED);
-          return;
-        case IRON_GOLEM:
-          if (!arena.getIronGolems().contains(e.getEntity())) {
-            continue;
-          }
-          e.getDrops().clear();
-          return;
-        default:
-          break;
-      }
+    Arena arena = owner.getArena();
+    switch (owner.getRole()) {
+      case ZOMBIE:
+        arena.removeZombie((Zombie) e.getEntity());
+        arena.addOptionValue(ArenaOption.TOTAL_KILLED_ZOMBIES, 1);
+        if (ArenaRegistry.getArena(e.getEntity().getKiller()) != null) {
+          ArenaUtils.addStat(e.getEntity().getKiller(), StatsStorage.StatisticType.KILLS);
+          ArenaUtils.addExperience(e.getEntity().getKiller(), 2);
+          plugin.getRewardsHandler().performReward(e.getEntity().getKiller(), Reward.RewardType.ZOMBIE_KILL);
+          plugin.getPowerupRegistry().spawnPowerup(e.getEntity().getLocation(), ArenaRegistry.getArena(e.getEntity().getKiller()));
+        }
+        break;
+      case VILLAGER:
+        arena.getStartLocation().getWorld().strikeLightningEffect(e.getEntity().getLocation());
+        arena.removeVillager((Villager) e.getEntity());
+        plugin.getHolidayManager().applyHolidayDeathEffects(e.getEntity());
+        plugin.getChatManager().broadcast(arena, Messages.VILLAGER_DIED);
+        break;
+      case IRON_GOLEM:
+        e.getDrops().clear();
+        arena.removeIronGolem((IronGolem) e.getEntity());
+        break;
+      case WOLF:
+        arena.removeWolf((Wolf) e.getEntity());
+        break;
+      default:
+        break;
     }
   }
 
@@ -18,10 +18,10 @@
 
 package pl.plajer.villagedefense.arena;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
-import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
@@ -48,6 +48,7 @@ import pl.plajer.villagedefense.handlers.PermissionsManager;
 import pl.plajer.villagedefense.handlers.items.SpecialItem;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
 import pl.plajer.villagedefense.handlers.language.Messages;
+import pl.plajer.villagedefense.handlers.language.template.PlaceholderSet;
 import pl.plajer.villagedefense.handlers.reward.Reward;
 import pl.plajer.villagedefense.kits.KitRegistry;
 import pl.plajer.villagedefense.kits.level.GolemFriendKit;
@@ -63,6 +64,12 @@ import pl.plajerlair.commonsbox.minecraft.serialization.InventorySerializer;
  */
 public class ArenaManager {
 
+  private static final PlaceholderSet<Summary> SUMMARY_PLACEHOLDERS = new PlaceholderSet<Summary>()
+      .register("summary", (summary, builder) -> builder.append(summary.ending))
+      .register("wave", (summary, builder) -> builder.append(summary.arena.getWave()))
+      .register("player_best_wave", (summary, builder) -> builder.append(summary.user.getStat(StatsStorage.StatisticType.HIGHEST_WAVE)))
+      .register("zombies", (summary, builder) -> builder.append(summary.arena.getOption(ArenaOption.TOTAL_KILLED_ZOMBIES)))
+      .register("orbs_spent", (summary, builder) -> builder.append(summary.arena.getOption(ArenaOption.TOTAL_ORBS_SPENT)));
   private static Main plugin;
 
   private ArenaManager() {
@@ -91,7 +98,7 @@ public class ArenaManager {
       player.sendMessage(plugin.getChatManager().getPrefix() + plugin.getChatManager().colorMessage(Messages.ALREADY_PLAYING));
       return;
     }
-    arena.getPlayers().add(player);
+    arena.addPlayer(player);
     User user = plugin.getUserManager().getUser(player);
     arena.getScoreboardManager().createScoreboard(user);
     if ((arena.getArenaState() == ArenaState.IN_GAME || (arena.getArenaState() == ArenaState.STARTING && arena.getTimer() <= 3) || arena.getArenaState() == ArenaState.ENDING)) {
@@ -206,15 +213,16 @@ public class ArenaManager {
     User user = plugin.getUserManager().getUser(player);
     user.setStat(StatsStorage.StatisticType.ORBS, 0);
     arena.getScoreboardManager().removeScoreboard(user);
-    arena.getPlayers().remove(player);
+    arena.removePlayer(player);
     if (!user.isSpectator()) {
       plugin.getChatManager().broadcastAction(arena, player, ChatManager.ActionType.LEAVE);
     }
     user.setSpectator(false);
     if (user.getKit() instanceof GolemFriendKit) {
-      for (IronGolem ironGolem : arena.getIronGolems()) {
+      for (IronGolem ironGolem : new ArrayList<>(arena.getIronGolems())) {
         if (ironGolem.getCustomName().contains(user.getPlayer().getName())) {
           ironGolem.remove();
+          arena.removeIronGolem(ironGolem);
         }
       }
     }
@@ -254,8 +262,9 @@ public class ArenaManager {
       if (user.getStat(StatsStorage.StatisticType.HIGHEST_WAVE) <= arena.getWave()) {
         user.setStat(StatsStorage.StatisticType.HIGHEST_WAVE, arena.getWave());
       }
+      Summary summary = new Summary(arena, user, summaryEnding);
       for (String msg : summaryMessages) {
-        MiscUtils.sendCenteredMessage(player, formatSummaryPlaceholders(msg, arena, user, summaryEnding));
+        MiscUtils.sendCenteredMessage(player, SUMMARY_PLACEHOLDERS.format(msg, summary));
       }
       ArenaUtils.addExperience(player, arena.getWave());
 
@@ -273,16 +282,6 @@ public class ArenaManager {
     Debugger.debug(Level.INFO, "[{0}] Game stop event finished took {1}ms", arena.getId(), System.currentTimeMillis() - start);
   }
 
-  private static String formatSummaryPlaceholders(String msg, Arena arena, User user, String summary) {
-    String formatted = msg;
-    formatted = StringUtils.replace(formatted, "%summary%", summary);
-    formatted = StringUtils.replace(formatted, "%wave%", String.valueOf(arena.getWave()));
-    formatted = StringUtils.replace(formatted, "%player_best_wave%", String.valueOf(user.getStat(StatsStorage.StatisticType.HIGHEST_WAVE)));
-    formatted = StringUtils.replace(formatted, "%zombies%", String.valueOf(arena.getOption(ArenaOption.TOTAL_KILLED_ZOMBIES)));
-    formatted = StringUtils.replace(formatted, "%orbs_spent%", String.valueOf(arena.getOption(ArenaOption.TOTAL_ORBS_SPENT)));
-    return formatted;
-  }
-
   private static void spawnFireworks(Arena arena, Player player) {
     if (!plugin.getConfig().getBoolean("Firework-When-Game-Ends", true)) {
       return;
@@ -314,7 +313,7 @@ public class ArenaManager {
     }
     plugin.getRewardsHandler().performReward(arena, Reward.RewardType.END_WAVE);
     arena.setTimer(plugin.getConfig().getInt("Cooldown-Before-Next-Wave", 25));
-    arena.getZombieSpawnManager().getZombieCheckerLocations().clear();
+    arena.getZombieSpawnManager().clearGlitchChecks();
     arena.setWave(arena.getWave() + 1);
     Bukkit.getPluginManager().callEvent(new VillageWaveEndEvent(arena, arena.getWave()));
     refreshAllPlayers(arena);
@@ -356,10 +355,7 @@ public class ArenaManager {
       zombiesAmount = 750;
     }
     arena.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, zombiesAmount);
-    arena.setOptionValue(ArenaOption.ZOMBIE_IDLE_PROCESS, (int) Math.floor((double) arena.getWave() / 15));
-    if (arena.getOption(ArenaOption.ZOMBIE_IDLE_PROCESS) > 0) {
-      Debugger.debug(Level.INFO, "[{0}] Spawn idle process initiated to prevent server overload! Value: {1}", arena.getId(), arena.getOption(ArenaOption.ZOMBIE_IDLE_PROCESS));
-    }
+    arena.getZombieSpawnManager().prepareWave(arena.getWave(), zombiesAmount);
     if (plugin.getConfig().getBoolean("Respawn-After-Wave", true)) {
       ArenaUtils.bringDeathPlayersBack(arena);
     }
@@ -370,4 +366,18 @@ public class ArenaManager {
     Debugger.debug(Level.INFO, "[{0}] Wave start event finished took {1}ms", arena.getId(), System.currentTimeMillis() - start);
   }
 
+  private static class Summary {
+
+    private final Arena arena;
+    private final User user;
+    private final String ending;
+
+    Summary(Arena arena, User user, String ending) {
+      this.arena = arena;
+      this.user = user;
+      this.ending = ending;
+    }
+
+  }
+
 }
@@ -0,0 +1,127 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Axis aligned bounding box of the arena map,
+ * computed from all arena locations that are placed in the start location world.
+ */
+public class ArenaRegion {
+
+  /**
+   * Blocks added on each side of computed box, covers map parts around spawns and doors
+   */
+  private static final int PADDING = 32;
+
+  private final String world;
+  private final int minX;
+  private final int minY;
+  private final int minZ;
+  private final int maxX;
+  private final int maxY;
+  private final int maxZ;
+
+  public ArenaRegion(String world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+    this.world = world;
+    this.minX = Math.min(minX, maxX);
+    this.minY = Math.min(minY, maxY);
+    this.minZ = Math.min(minZ, maxZ);
+    this.maxX = Math.max(minX, maxX);
+    this.maxY = Math.max(minY, maxY);
+    this.maxZ = Math.max(minZ, maxZ);
+  }
+
+  /**
+   * Computes region of arena from its start, lobby, zombie spawn,
+   * villager spawn and door locations
+   *
+   * @param arena arena to compute region of
+   * @return region or null if arena has no start location set yet
+   */
+  @Nullable
+  public static ArenaRegion of(Arena arena) {
+    Location start = arena.getStartLocation();
+    if (start == null || start.getWorld() == null) {
+      return null;
+    }
+    List<Location> locations = new ArrayList<>();
+    locations.add(arena.getLobbyLocation());
+    locations.addAll(arena.getZombieSpawns());
+    locations.addAll(arena.getVillagerSpawns());
+    locations.addAll(arena.getMapRestorerManager().getGameDoorLocations().keySet());
+    World world = start.getWorld();
+    int minX = start.getBlockX();
+    int minY = start.getBlockY();
+    int minZ = start.getBlockZ();
+    int maxX = minX;
+    int maxY = minY;
+    int maxZ = minZ;
+    for (Location location : locations) {
+      if (location == null || !world.equals(location.getWorld())) {
+        continue;
+      }
+      minX = Math.min(minX, location.getBlockX());
+      minY = Math.min(minY, location.getBlockY());
+      minZ = Math.min(minZ, location.getBlockZ());
+      maxX = Math.max(maxX, location.getBlockX());
+      maxY = Math.max(maxY, location.getBlockY());
+      maxZ = Math.max(maxZ, location.getBlockZ());
+    }
+    return new ArenaRegion(world.getName(), minX - PADDING, minY - PADDING, minZ - PADDING,
+        maxX + PADDING, maxY + PADDING, maxZ + PADDING);
+  }
+
+  public boolean contains(Location location) {
+    if (location.getWorld() == null || !world.equals(location.getWorld().getName())) {
+      return false;
+    }
+    int x = location.getBlockX();
+    int y = location.getBlockY();
+    int z = location.getBlockZ();
+    return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+  }
+
+  public String getWorld() {
+    return world;
+  }
+
+  public int getMinChunkX() {
+    return minX >> 4;
+  }
+
+  public int getMinChunkZ() {
+    return minZ >> 4;
+  }
+
+  public int getMaxChunkX() {
+    return maxX >> 4;
+  }
+
+  public int getMaxChunkZ() {
+    return maxZ >> 4;
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Spatial index of arena regions, every chunk covered by a region
+ * points to arenas which region overlaps it.
+ */
+class ArenaRegionGrid {
+
+  private final Map<String, Map<Long, List<Arena>>> worlds = new HashMap<>();
+
+  void add(Arena arena, ArenaRegion region) {
+    Map<Long, List<Arena>> chunks = worlds.computeIfAbsent(region.getWorld(), world -> new HashMap<>());
+    for (int x = region.getMinChunkX(); x <= region.getMaxChunkX(); x++) {
+      for (int z = region.getMinChunkZ(); z <= region.getMaxChunkZ(); z++) {
+        List<Arena> arenas = chunks.computeIfAbsent(chunkKey(x, z), key -> new ArrayList<>(1));
+        if (!arenas.contains(arena)) {
+          arenas.add(arena);
+        }
+      }
+    }
+  }
+
+  void remove(Arena arena, ArenaRegion region) {
+    Map<Long, List<Arena>> chunks = worlds.get(region.getWorld());
+    if (chunks == null) {
+      return;
+    }
+    for (int x = region.getMinChunkX(); x <= region.getMaxChunkX(); x++) {
+      for (int z = region.getMinChunkZ(); z <= region.getMaxChunkZ(); z++) {
+        long key = chunkKey(x, z);
+        List<Arena> arenas = chunks.get(key);
+        if (arenas != null && arenas.remove(arena) && arenas.isEmpty()) {
+          chunks.remove(key);
+        }
+      }
+    }
+    if (chunks.isEmpty()) {
+      worlds.remove(region.getWorld());
+    }
+  }
+
+  @Nullable
+  Arena locate(Location location) {
+    if (location.getWorld() == null) {
+      return null;
+    }
+    Map<Long, List<Arena>> chunks = worlds.get(location.getWorld().getName());
+    if (chunks == null) {
+      return null;
+    }
+    List<Arena> arenas = chunks.get(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+    if (arenas == null) {
+      return null;
+    }
+    for (Arena arena : arenas) {
+      if (arena.getRegion().contains(location)) {
+        return arena;
+      }
+    }
+    return null;
+  }
+
+  private static long chunkKey(int x, int z) {
+    return ((long) x << 32) | (z & 0xFFFFFFFFL);
+  }
+
+}
@@ -19,11 +19,19 @@
 package pl.plajer.villagedefense.arena;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Difficulty;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
@@ -43,6 +51,12 @@ import pl.plajerlair.commonsbox.minecraft.serialization.LocationSerializer;
 public class ArenaRegistry {
 
   private static List<Arena> arenas = new ArrayList<>();
+  //lookup indexes, player index is accessed from async chat threads too
+  private static Map<String, Arena> arenasById = new HashMap<>();
+  private static Map<UUID, Arena> playerArenas = new ConcurrentHashMap<>();
+  //keyed by world name of arena start location
+  private static Map<String, List<Arena>> arenasByWorld = new HashMap<>();
+  private static ArenaRegionGrid regionGrid = new ArenaRegionGrid();
   private static Main plugin;
 
   private ArenaRegistry() {
@@ -59,12 +73,7 @@ public class ArenaRegistry {
    * @return true when player is in arena, false if otherwise
    */
   public static boolean isInArena(@NotNull Player player) {
-    for (Arena arena : arenas) {
-      if (arena.getPlayers().contains(player)) {
-        return true;
-      }
-    }
-    return false;
+    return playerArenas.containsKey(player.getUniqueId());
   }
 
   /**
@@ -76,19 +85,10 @@ public class ArenaRegistry {
    */
   @Nullable
   public static Arena getArena(Player player) {
-    Arena arena = null;
     if (player == null || !player.isOnline()) {
       return null;
     }
-    for (Arena loopArena : arenas) {
-      for (Player arenaPlayer : loopArena.getPlayers()) {
-        if (arenaPlayer.getUniqueId().equals(player.getUniqueId())) {
-          arena = loopArena;
-          break;
-        }
-      }
-    }
-    return arena;
+    return playerArenas.get(player.getUniqueId());
   }
 
   /**
@@ -99,24 +99,144 @@ public class ArenaRegistry {
    */
   @Nullable
   public static Arena getArena(String id) {
-    Arena arena = null;
-    for (Arena loopArena : arenas) {
-      if (loopArena.getId().equalsIgnoreCase(id)) {
-        arena = loopArena;
-        break;
-      }
+    if (id == null) {
+      return null;
     }
-    return arena;
+    return arenasById.get(id.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Returns arenas which start location is in target world
+   *
+   * @param world world to check
+   * @return arenas hosted in target world, empty list if none
+   */
+  public static List<Arena> getArenas(World world) {
+    List<Arena> worldArenas = arenasByWorld.get(world.getName());
+    return worldArenas == null ? Collections.emptyList() : worldArenas;
+  }
+
+  /**
+   * Checks if any arena is hosted in target world,
+   * used to reject server-wide events early
+   *
+   * @param world world to check
+   * @return true if world hosts at least one arena
+   */
+  public static boolean isArenaWorld(World world) {
+    return arenasByWorld.containsKey(world.getName());
+  }
+
+  /**
+   * Returns arena which region contains target location
+   *
+   * @param location location to check
+   * @return Arena or null if location is outside of every arena region
+   * @see ArenaRegion
+   */
+  @Nullable
+  public static Arena locate(Location location) {
+    return regionGrid.locate(location);
   }
 
   public static void registerArena(Arena arena) {
     Debugger.debug(Level.INFO, "[{0}] Instance registered", arena.getId());
     arenas.add(arena);
+    arenasById.put(arena.getId().toLowerCase(Locale.ROOT), arena);
+    indexWorld(arena, arena.getStartLocation());
+    indexRegion(arena);
+    for (Player player : arena.getPlayers()) {
+      playerArenas.put(player.getUniqueId(), arena);
+    }
   }
 
   public static void unregisterArena(Arena arena) {
     Debugger.debug(Level.INFO, "[{0}] Instance unregistered", arena.getId());
     arenas.remove(arena);
+    arenasById.remove(arena.getId().toLowerCase(Locale.ROOT), arena);
+    playerArenas.values().removeIf(arena::equals);
+    unindexWorld(arena, arena.getStartLocation());
+    unindexRegion(arena);
+    ArenaTickScheduler.unschedule(arena);
+    ArenaEntityRegistry.unregisterEntities(arena);
+  }
+
+  /**
+   * Updates world and region indexes, called by arena whenever its start location changes
+   *
+   * @param arena    arena which start location changed
+   * @param previous previous start location of arena
+   */
+  static void reindexWorld(Arena arena, @Nullable Location previous) {
+    if (!arenas.contains(arena)) {
+      return;
+    }
+    unindexWorld(arena, previous);
+    indexWorld(arena, arena.getStartLocation());
+    unindexRegion(arena);
+    indexRegion(arena);
+  }
+
+  private static void indexRegion(Arena arena) {
+    ArenaRegion region = ArenaRegion.of(arena);
+    arena.setRegion(region);
+    if (region != null) {
+      regionGrid.add(arena, region);
+    }
+  }
+
+  private static void unindexRegion(Arena arena) {
+    if (arena.getRegion() != null) {
+      regionGrid.remove(arena, arena.getRegion());
+      arena.setRegion(null);
+    }
+  }
+
+  private static void indexWorld(Arena arena, @Nullable Location location) {
+    if (location == null || location.getWorld() == null) {
+      return;
+    }
+    List<Arena> worldArenas = arenasByWorld.computeIfAbsent(location.getWorld().getName(), world -> new ArrayList<>());
+    if (!worldArenas.contains(arena)) {
+      worldArenas.add(arena);
+    }
+  }
+
+  private static void unindexWorld(Arena arena, @Nullable Location location) {
+    if (location == null || location.getWorld() == null) {
+      return;
+    }
+    String world = location.getWorld().getName();
+    List<Arena> worldArenas = arenasByWorld.get(world);
+    if (worldArenas == null) {
+      return;
+    }
+    worldArenas.remove(arena);
+    if (worldArenas.isEmpty()) {
+      arenasByWorld.remove(world);
+    }
+  }
+
+  /**
+   * Updates player to arena index, called by arena whenever player joins it
+   *
+   * @param player player that joined arena
+   * @param arena  arena player joined
+   */
+  static void indexPlayer(Player player, Arena arena) {
+    if (arenas.contains(arena)) {
+      playerArenas.put(player.getUniqueId(), arena);
+    }
+  }
+
+  /**
+   * Updates player to arena index, called by arena whenever player leaves it
+   *
+   * @param player player that left arena
+   * @param arena  arena player left
+   */
+  static void unindexPlayer(Player player, Arena arena) {
+    playerArenas.remove(player.getUniqueId(), arena);
   }
 
   public static void registerArenas() {
@@ -0,0 +1,199 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import pl.plajer.villagedefense.Main;
+import pl.plajer.villagedefense.creatures.ZombieHealthBarRenderer;
+import pl.plajer.villagedefense.user.StatisticChangeDispatcher;
+import pl.plajer.villagedefense.utils.Debugger;
+
+/**
+ * Single task driving all arenas once per second.
+ * Arenas are spread across the 20 ticks of each second and every tick
+ * runs due arenas until the time budget is used, the rest is carried
+ * over to the next tick so every arena still gets exactly one call per second.
+ * <p>
+ * Zombies queued by arenas are spawned here too, limited per tick
+ * and taken from arenas in round robin order until global alive zombies cap is reached.
+ * Zombie health bars damaged and user statistics changed during the tick are flushed at its end.
+ *
+ * @see SpawnRateController
+ */
+public class ArenaTickScheduler {
+
+  private static final int SLOTS = 20;
+  private static final long TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  private static final int MAX_SPAWNS_PER_TICK = 10;
+  private static final long SPAWN_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(3);
+
+  private static List<Arena> arenas = new ArrayList<>();
+  private static List<List<Arena>> slots = new ArrayList<>(SLOTS);
+  private static Map<Arena, Integer> arenaSlots = new HashMap<>();
+  //every entry is one owed arena call, arena may be there twice if carried over for longer than a second
+  private static Deque<Arena> pending = new ArrayDeque<>();
+  private static int currentSlot = 0;
+  private static int spawnCursor = 0;
+  private static long currentTick = 0;
+  private static BukkitTask task;
+  private static Main plugin;
+
+  static {
+    for (int i = 0; i < SLOTS; i++) {
+      slots.add(new ArrayList<>());
+    }
+  }
+
+  private ArenaTickScheduler() {
+  }
+
+  public static void init(Main plugin) {
+    ArenaTickScheduler.plugin = plugin;
+    if (task != null) {
+      task.cancel();
+    }
+    task = new BukkitRunnable() {
+      @Override
+      public void run() {
+        tick();
+      }
+    }.runTaskTimer(plugin, 1L, 1L);
+  }
+
+  /**
+   * Schedules arena into the least loaded tick of the second
+   *
+   * @param arena arena to schedule
+   */
+  public static void schedule(Arena arena) {
+    if (arenaSlots.containsKey(arena)) {
+      return;
+    }
+    int slot = 0;
+    for (int i = 1; i < SLOTS; i++) {
+      if (slots.get(i).size() < slots.get(slot).size()) {
+        slot = i;
+      }
+    }
+    slots.get(slot).add(arena);
+    arenaSlots.put(arena, slot);
+    arenas.add(arena);
+    Debugger.debug(Level.INFO, "[{0}] Arena scheduled at tick {1} of second", arena.getId(), slot);
+  }
+
+  public static void unschedule(Arena arena) {
+    Integer slot = arenaSlots.remove(arena);
+    if (slot == null) {
+      return;
+    }
+    slots.get(slot).remove(arena);
+    arenas.remove(arena);
+    pending.removeIf(arena::equals);
+  }
+
+  /**
+   * @return amount of queued zombies that can be spawned per tick with current server load
+   */
+  public static int getMaxSpawnsPerTick() {
+    return SpawnRateController.getSpawnsPerTick(MAX_SPAWNS_PER_TICK);
+  }
+
+  /**
+   * @return amount of ticks scheduler run since plugin start, used to cache values for single tick
+   */
+  public static long getCurrentTick() {
+    return currentTick;
+  }
+
+  private static void tick() {
+    currentTick++;
+    SpawnRateController.sample(System.nanoTime());
+    runArenas();
+    spawnQueuedZombies();
+    ZombieHealthBarRenderer.flush();
+    StatisticChangeDispatcher.flush();
+  }
+
+  private static void runArenas() {
+    pending.addAll(slots.get(currentSlot));
+    currentSlot = (currentSlot + 1) % SLOTS;
+    if (pending.isEmpty()) {
+      return;
+    }
+    long start = System.nanoTime();
+    //at least one arena is called every tick so overloaded server still makes progress
+    while (!pending.isEmpty()) {
+      Arena arena = pending.poll();
+      try {
+        arena.run();
+      } catch (Exception ex) {
+        plugin.getLogger().log(Level.SEVERE, "Arena " + arena.getId() + " task failed", ex);
+      }
+      if (System.nanoTime() - start >= TICK_BUDGET_NANOS) {
+        break;
+      }
+    }
+    if (!pending.isEmpty()) {
+      Debugger.performance("ArenaTask", "[PerformanceMonitor] Tick budget used, {0} arena calls carried over", pending.size());
+    }
+  }
+
+  private static void spawnQueuedZombies() {
+    long start = System.nanoTime();
+    int spawned = 0;
+    //arenas checked in a row without anything queued, stop when whole round had nothing to spawn
+    int idle = 0;
+    int maxSpawns = getMaxSpawnsPerTick();
+    int alive = 0;
+    for (Arena arena : arenas) {
+      alive += arena.getZombies().size();
+    }
+    int globalCap = SpawnRateController.getGlobalLiveZombiesCap();
+    while (spawned < maxSpawns && alive < globalCap && idle < arenas.size() && System.nanoTime() - start < SPAWN_BUDGET_NANOS) {
+      spawnCursor = (spawnCursor + 1) % arenas.size();
+      Arena arena = arenas.get(spawnCursor);
+      boolean queued;
+      try {
+        queued = arena.getZombieSpawnManager().spawnQueuedZombie();
+      } catch (Exception ex) {
+        plugin.getLogger().log(Level.SEVERE, "Arena " + arena.getId() + " failed to spawn queued zombie", ex);
+        queued = false;
+      }
+      if (queued) {
+        spawned++;
+        alive++;
+        idle = 0;
+      } else {
+        idle++;
+      }
+    }
+  }
+
+}
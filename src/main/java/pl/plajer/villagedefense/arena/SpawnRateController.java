@@ -0,0 +1,135 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import java.util.logging.Level;
+
+import pl.plajer.villagedefense.Main;
+import pl.plajer.villagedefense.utils.Debugger;
+
+/**
+ * Adapts zombie spawning to the server load.
+ * Tick durations are sampled by ArenaTickScheduler, when average tick takes
+ * longer than expected spawn rate multiplier is lowered multiplicatively
+ * and raised slowly again once server is healthy.
+ * <p>
+ * Multiplier is global so every arena is throttled the same way.
+ * <p>
+ * Alive zombies limits per arena and for the whole server are loaded from config.yml
+ * and scaled by the multiplier too, zombies above the limits wait in arena backlog.
+ */
+public class SpawnRateController {
+
+  private static final double TARGET_TICK_MILLIS = 50.0;
+  private static final double OVERLOAD_TICK_MILLIS = 53.0;
+  private static final double HEALTHY_TICK_MILLIS = 51.0;
+  private static final double SMOOTHING = 0.1;
+  private static final double MIN_MULTIPLIER = 0.1;
+  private static final double BACKOFF_FACTOR = 0.75;
+  private static final double RECOVERY_STEP = 0.05;
+  private static final int ADJUST_INTERVAL_TICKS = 20;
+  private static final int MIN_LIVE_ZOMBIES_CAP = 20;
+
+  private static double averageTickMillis = TARGET_TICK_MILLIS;
+  private static double multiplier = 1.0;
+  private static long lastTick = -1;
+  private static int ticksSinceAdjust = 0;
+  private static int arenaZombiesLimit = 150;
+  private static int globalZombiesLimit = 500;
+  private static Main plugin;
+
+  private SpawnRateController() {
+  }
+
+  public static void init(Main plugin) {
+    SpawnRateController.plugin = plugin;
+    reload();
+  }
+
+  /**
+   * Reloads alive zombies limits from config.yml
+   */
+  public static void reload() {
+    arenaZombiesLimit = Math.max(MIN_LIVE_ZOMBIES_CAP, plugin.getConfig().getInt("Zombies-Alive-Limit", 150));
+    globalZombiesLimit = Math.max(arenaZombiesLimit, plugin.getConfig().getInt("Zombies-Alive-Global-Limit", 500));
+    Debugger.debug(Level.INFO, "[SpawnRateController] Alive zombies limits loaded, arena {0} global {1}", arenaZombiesLimit, globalZombiesLimit);
+  }
+
+  /**
+   * Records tick start time, called once per server tick
+   *
+   * @param now current System#nanoTime value
+   */
+  static void sample(long now) {
+    if (lastTick != -1) {
+      double tickMillis = (now - lastTick) / 1_000_000.0;
+      averageTickMillis += (tickMillis - averageTickMillis) * SMOOTHING;
+    }
+    lastTick = now;
+    if (++ticksSinceAdjust < ADJUST_INTERVAL_TICKS) {
+      return;
+    }
+    ticksSinceAdjust = 0;
+    if (averageTickMillis > OVERLOAD_TICK_MILLIS && multiplier > MIN_MULTIPLIER) {
+      multiplier = Math.max(MIN_MULTIPLIER, multiplier * BACKOFF_FACTOR);
+      Debugger.debug(Level.WARNING, "[SpawnRateController] Server overloaded (avg tick {0}ms), lowering spawn rate to {1}",
+          Math.round(averageTickMillis), multiplier);
+    } else if (averageTickMillis < HEALTHY_TICK_MILLIS && multiplier < 1.0) {
+      multiplier = Math.min(1.0, multiplier + RECOVERY_STEP);
+    }
+  }
+
+  /**
+   * @return spawn rate multiplier in range from 0.1 to 1.0
+   */
+  public static double getMultiplier() {
+    return multiplier;
+  }
+
+  public static double getAverageTickMillis() {
+    return averageTickMillis;
+  }
+
+  public static double getTps() {
+    return Math.min(20.0, 1000.0 / averageTickMillis);
+  }
+
+  /**
+   * @param base amount of spawns per tick for healthy server
+   * @return amount of spawns allowed per tick with current load
+   */
+  public static int getSpawnsPerTick(int base) {
+    return Math.max(1, (int) Math.round(base * multiplier));
+  }
+
+  /**
+   * @return maximum amount of alive zombies per arena with current load
+   */
+  public static int getLiveZombiesCap() {
+    return Math.max(MIN_LIVE_ZOMBIES_CAP, (int) (arenaZombiesLimit * multiplier));
+  }
+
+  /**
+   * @return maximum amount of alive zombies of all arenas together with current load
+   */
+  public static int getGlobalLiveZombiesCap() {
+    return Math.max(MIN_LIVE_ZOMBIES_CAP, (int) (globalZombiesLimit * multiplier));
+  }
+
+}
@@ -24,21 +24,17 @@ import net.minecraft.server.v1_12_R1.GenericAttributes;
 import net.minecraft.server.v1_12_R1.World;
 
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.craftbukkit.v1_12_R1.CraftWorld;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Villager;
 import org.bukkit.entity.Wolf;
 import org.bukkit.entity.Zombie;
 import org.bukkit.event.entity.CreatureSpawnEvent;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
 
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.arena.Arena;
-import pl.plajer.villagedefense.arena.options.ArenaOption;
-import pl.plajer.villagedefense.creatures.CreatureUtils;
+import pl.plajer.villagedefense.arena.wave.ZombieType;
+import pl.plajer.villagedefense.creatures.ZombieTemplateRegistry;
 import pl.plajer.villagedefense.creatures.v1_12_R1.BabyZombie;
 import pl.plajer.villagedefense.creatures.v1_12_R1.FastZombie;
 import pl.plajer.villagedefense.creatures.v1_12_R1.GolemBuster;
@@ -75,12 +71,9 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    zombie.setRemoveWhenFarAway(false);
-    CreatureUtils.applyAttributes(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.FAST).apply(zombie, this);
     plugin.getHolidayManager().applyHolidayZombieEffects(zombie);
     this.addZombie((Zombie) fastZombie.getBukkitEntity());
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -90,13 +83,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    zombie.setRemoveWhenFarAway(false);
-    zombie.getEquipment().setBoots(new ItemStack(Material.CHAINMAIL_BOOTS));
-    zombie.addPotionEffect(new PotionEffect(PotionEffectType.INVISIBILITY, Integer.MAX_VALUE, 1));
-    CreatureUtils.applyAttributes(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.HALF_INVISIBLE).apply(zombie, this);
     this.addZombie((Zombie) fastZombie.getBukkitEntity());
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -107,10 +95,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    InitializerHelper.prepareKnockbackResistantZombie(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.KNOCKBACK_RESISTANT).apply(zombie, this);
     this.addZombie(zombie);
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -119,13 +105,10 @@ public class ArenaInitializer1_12_R1 extends Arena {
     BabyZombie fastZombie = new BabyZombie(world);
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    CreatureUtils.applyAttributes(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.BABY).apply(zombie, this);
     plugin.getHolidayManager().applyHolidayZombieEffects(zombie);
-    zombie.setRemoveWhenFarAway(false);
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     this.addZombie((Zombie) fastZombie.getBukkitEntity());
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -135,9 +118,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    InitializerHelper.prepareHardZombie(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.HARD).apply(zombie, this);
     this.addZombie(zombie);
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -147,9 +129,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    InitializerHelper.prepareSoftHardZombie(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.SOFT_HARD).apply(zombie, this);
     this.addZombie(zombie);
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -159,14 +140,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    zombie.getEquipment().setHelmet(new ItemStack(Material.TNT));
-    zombie.getEquipment().setHelmetDropChance(0.0F);
-    zombie.getEquipment().setItemInMainHandDropChance(0F);
-    zombie.setRemoveWhenFarAway(false);
-    CreatureUtils.applyAttributes(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.GOLEM_BUSTER).apply(zombie, this);
     this.addZombie(zombie);
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -176,10 +151,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     fastZombie.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(fastZombie, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) fastZombie.getBukkitEntity();
-    InitializerHelper.preparePlayerBusterZombie(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.PLAYER_BUSTER).apply(zombie, this);
     this.addZombie(zombie);
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -189,10 +162,8 @@ public class ArenaInitializer1_12_R1 extends Arena {
     villagerSlayer.setPosition(location.getX(), location.getY(), location.getZ());
     world.addEntity(villagerSlayer, CreatureSpawnEvent.SpawnReason.CUSTOM);
     Zombie zombie = (Zombie) villagerSlayer.getBukkitEntity();
-    InitializerHelper.prepareVillagerSlayerZombie(zombie, this);
+    ZombieTemplateRegistry.getTemplate(ZombieType.VILLAGER_SLAYER).apply(zombie, this);
     this.addZombie(zombie);
-
-    super.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
   }
 
   @Override
@@ -0,0 +1,165 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.managers;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing table of last known entity positions keyed by entity id.
+ * Positions are kept in primitive arrays so lookups and updates don't allocate.
+ */
+class EntityPositionTable {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private int[] ids;
+  private boolean[] used;
+  private boolean[] flagged;
+  private double[] xs;
+  private double[] ys;
+  private double[] zs;
+  private int mask;
+  private int size = 0;
+
+  EntityPositionTable() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  private void allocate(int capacity) {
+    ids = new int[capacity];
+    used = new boolean[capacity];
+    flagged = new boolean[capacity];
+    xs = new double[capacity];
+    ys = new double[capacity];
+    zs = new double[capacity];
+    mask = capacity - 1;
+  }
+
+  private int home(int id) {
+    //spread sequential entity ids
+    return (id * 0x9E3779B9) >>> 16 & mask;
+  }
+
+  /**
+   * @param id entity id
+   * @return slot of entity or -1 if entity is not stored
+   */
+  int find(int id) {
+    for (int slot = home(id); used[slot]; slot = (slot + 1) & mask) {
+      if (ids[slot] == id) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Stores entity position, entity is not flagged when it wasn't stored before
+   *
+   * @return slot of entity
+   */
+  int put(int id, double x, double y, double z) {
+    int slot = find(id);
+    if (slot == -1) {
+      if ((size + 1) * 2 > ids.length) {
+        grow();
+      }
+      slot = home(id);
+      while (used[slot]) {
+        slot = (slot + 1) & mask;
+      }
+      used[slot] = true;
+      ids[slot] = id;
+      flagged[slot] = false;
+      size++;
+    }
+    xs[slot] = x;
+    ys[slot] = y;
+    zs[slot] = z;
+    return slot;
+  }
+
+  double distanceSquared(int slot, double x, double y, double z) {
+    double dx = xs[slot] - x;
+    double dy = ys[slot] - y;
+    double dz = zs[slot] - z;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  boolean isFlagged(int slot) {
+    return flagged[slot];
+  }
+
+  void setFlagged(int slot, boolean value) {
+    flagged[slot] = value;
+  }
+
+  void remove(int id) {
+    int slot = find(id);
+    if (slot == -1) {
+      return;
+    }
+    used[slot] = false;
+    size--;
+    //shift following entries back so probing chains stay unbroken
+    int free = slot;
+    for (int next = (slot + 1) & mask; used[next]; next = (next + 1) & mask) {
+      int home = home(ids[next]);
+      boolean reachable = free <= next ? free < home && home <= next : free < home || home <= next;
+      if (reachable) {
+        continue;
+      }
+      ids[free] = ids[next];
+      flagged[free] = flagged[next];
+      xs[free] = xs[next];
+      ys[free] = ys[next];
+      zs[free] = zs[next];
+      used[free] = true;
+      used[next] = false;
+      free = next;
+    }
+  }
+
+  void clear() {
+    Arrays.fill(used, false);
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void grow() {
+    int[] oldIds = ids;
+    boolean[] oldUsed = used;
+    boolean[] oldFlagged = flagged;
+    double[] oldXs = xs;
+    double[] oldYs = ys;
+    double[] oldZs = zs;
+    allocate(oldIds.length * 2);
+    size = 0;
+    for (int i = 0; i < oldIds.length; i++) {
+      if (oldUsed[i]) {
+        int slot = put(oldIds[i], oldXs[i], oldYs[i], oldZs[i]);
+        flagged[slot] = oldFlagged[i];
+      }
+    }
+  }
+
+}
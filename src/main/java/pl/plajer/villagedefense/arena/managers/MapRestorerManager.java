@@ -18,13 +18,17 @@
 
 package pl.plajer.villagedefense.arena.managers;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.TreeSpecies;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.entity.Entity;
@@ -36,6 +40,7 @@ import org.bukkit.entity.Zombie;
 import org.bukkit.material.Door;
 
 import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.ArenaRegion;
 import pl.plajer.villagedefense.utils.Debugger;
 import pl.plajer.villagedefense.utils.Utils;
 import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
@@ -48,6 +53,9 @@ import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
 public class MapRestorerManager {
 
   private Map<Location, Byte> doorBlocks = new LinkedHashMap<>();
+  private Map<Location, Byte> doorBlocksView = Collections.unmodifiableMap(doorBlocks);
+  //packed block positions of doorBlocks for fast lookups
+  private Set<Long> doorPositions = new HashSet<>();
   private Arena arena;
 
   public MapRestorerManager(Arena arena) {
@@ -56,10 +64,32 @@ public class MapRestorerManager {
 
   public void addDoor(Location location, byte data) {
     doorBlocks.put(location, data);
+    doorPositions.add(Utils.packBlockPosition(location));
   }
 
+  public void clearDoors() {
+    doorBlocks.clear();
+    doorPositions.clear();
+  }
+
+  /**
+   * @return read-only map of door block locations and their data
+   */
   public Map<Location, Byte> getGameDoorLocations() {
-    return doorBlocks;
+    return doorBlocksView;
+  }
+
+  /**
+   * Checks if arena door is placed at target block position
+   *
+   * @return true if block position is one of arena doors blocks
+   */
+  public boolean isDoorPosition(int x, int y, int z) {
+    return doorPositions.contains(Utils.packBlockPosition(x, y, z));
+  }
+
+  public boolean hasDoors() {
+    return !doorPositions.isEmpty();
   }
 
   public void fullyRestoreArena() {
@@ -75,13 +105,27 @@ public class MapRestorerManager {
     for (Zombie zombie : arena.getZombies()) {
       zombie.remove();
     }
-    arena.getZombies().clear();
+    arena.clearZombies();
   }
 
   public void clearDroppedEntities() {
-    for (Entity entity : Utils.getNearbyEntities(arena.getStartLocation(), 200)) {
-      if (entity.getType() == EntityType.EXPERIENCE_ORB || entity.getType() == EntityType.DROPPED_ITEM){
-        entity.remove();
+    ArenaRegion region = arena.getRegion();
+    if (region == null) {
+      return;
+    }
+    World world = arena.getStartLocation().getWorld();
+    for (int x = region.getMinChunkX(); x <= region.getMaxChunkX(); x++) {
+      for (int z = region.getMinChunkZ(); z <= region.getMaxChunkZ(); z++) {
+        //entities in unloaded chunks aren't ticking, there is nothing to clean up
+        if (!world.isChunkLoaded(x, z)) {
+          continue;
+        }
+        for (Entity entity : world.getChunkAt(x, z).getEntities()) {
+          if ((entity.getType() == EntityType.EXPERIENCE_ORB || entity.getType() == EntityType.DROPPED_ITEM)
+              && region.contains(entity.getLocation())) {
+            entity.remove();
+          }
+        }
       }
     }
   }
@@ -90,21 +134,21 @@ public class MapRestorerManager {
     for (IronGolem ironGolem : arena.getIronGolems()) {
       ironGolem.remove();
     }
-    arena.getIronGolems().clear();
+    arena.clearIronGolems();
   }
 
   public void clearVillagersFromArena() {
     for (Villager villager : arena.getVillagers()) {
       villager.remove();
     }
-    arena.getVillagers().clear();
+    arena.clearVillagers();
   }
 
   public void clearWolvesFromArena() {
     for (Wolf wolf : arena.getWolves()) {
       wolf.remove();
     }
-    arena.getWolves().clear();
+    arena.clearWolves();
   }
 
   private void restoreDoors() {
@@ -19,7 +19,10 @@
 package pl.plajer.villagedefense.arena.managers;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import me.clip.placeholderapi.PlaceholderAPI;
 import me.tigerhix.lib.scoreboard.ScoreboardLib;
@@ -28,15 +31,17 @@ import me.tigerhix.lib.scoreboard.type.Entry;
 import me.tigerhix.lib.scoreboard.type.Scoreboard;
 import me.tigerhix.lib.scoreboard.type.ScoreboardHandler;
 
-import org.apache.commons.lang.StringUtils;
 import org.bukkit.entity.Player;
 
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.api.StatsStorage;
 import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaState;
+import pl.plajer.villagedefense.arena.ArenaTickScheduler;
 import pl.plajer.villagedefense.arena.options.ArenaOption;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
+import pl.plajer.villagedefense.handlers.language.template.MessageTemplate;
+import pl.plajer.villagedefense.handlers.language.template.PlaceholderSet;
 import pl.plajer.villagedefense.user.User;
 
 /**
@@ -50,6 +55,28 @@ public class ScoreboardManager {
   private Main plugin;
   private String boardTitle;
   private Arena arena;
+  private int timer;
+  private int players;
+  private int playersLeft;
+  private int villagers;
+  private int zombiesLeft;
+  private int rottenFlesh;
+  //arena values are read once per tick, placeholders only append them
+  private PlaceholderSet<User> placeholders = new PlaceholderSet<User>()
+      .register("TIME", (user, builder) -> builder.append(timer))
+      .register("PLAYERS", (user, builder) -> builder.append(players))
+      .register("MIN_PLAYERS", (user, builder) -> builder.append(arena.getMinimumPlayers()))
+      .register("PLAYERS_LEFT", (user, builder) -> builder.append(playersLeft))
+      .register("VILLAGERS", (user, builder) -> builder.append(villagers))
+      .register("ZOMBIES", (user, builder) -> builder.append(zombiesLeft))
+      .register("ROTTEN_FLESH", (user, builder) -> builder.append(rottenFlesh))
+      .register("ORBS", (user, builder) -> builder.append(user.getStat(StatsStorage.StatisticType.ORBS)));
+  private Map<String, List<MessageTemplate<User>>> contents = new HashMap<>();
+  private List<MessageTemplate<User>> content = new ArrayList<>();
+  //lines without user placeholders rendered once per tick, null for lines rendered per user
+  private List<String> arenaLines = new ArrayList<>();
+  private long renderedTick = -1;
+  private Map<UUID, RenderedBoard> renderedBoards = new HashMap<>();
 
   public ScoreboardManager(Arena arena) {
     this.arena = arena;
@@ -86,6 +113,7 @@ public class ScoreboardManager {
    * @see User
    */
   public void removeScoreboard(User user) {
+    renderedBoards.remove(user.getPlayer().getUniqueId());
     for (Scoreboard board : scoreboards) {
       if (board.getHolder().equals(user.getPlayer())) {
         scoreboards.remove(board);
@@ -103,42 +131,95 @@ public class ScoreboardManager {
       board.deactivate();
     }
     scoreboards.clear();
+    renderedBoards.clear();
   }
 
+  /**
+   * Formats scoreboard of user, arena values and lines without user
+   * placeholders are rendered once per tick, other lines are rendered per user.
+   * If lines didn't change since last update previous entries are returned
+   * so scoreboard doesn't send any updates.
+   */
   private List<Entry> formatScoreboard(User user) {
+    renderArenaLines();
+    List<String> lines = new ArrayList<>(arenaLines.size());
+    for (int i = 0; i < arenaLines.size(); i++) {
+      String line = arenaLines.get(i);
+      lines.add(formatUserLine(line == null ? content.get(i).render(user) : line, user));
+    }
+    RenderedBoard rendered = renderedBoards.get(user.getPlayer().getUniqueId());
+    if (rendered != null && rendered.lines.equals(lines)) {
+      return rendered.entries;
+    }
     EntryBuilder builder = new EntryBuilder();
-    List<String> lines;
+    for (String line : lines) {
+      builder.next(line);
+    }
+    List<Entry> entries = builder.build();
+    renderedBoards.put(user.getPlayer().getUniqueId(), new RenderedBoard(lines, entries));
+    return entries;
+  }
+
+  private void renderArenaLines() {
+    long tick = ArenaTickScheduler.getCurrentTick();
+    if (renderedTick == tick) {
+      return;
+    }
+    renderedTick = tick;
+    timer = arena.getTimer();
+    players = arena.getPlayers().size();
+    playersLeft = arena.getPlayersLeft().size();
+    villagers = arena.getVillagers().size();
+    zombiesLeft = arena.getZombiesLeft();
+    rottenFlesh = arena.getOption(ArenaOption.ROTTEN_FLESH_AMOUNT);
+    content = getContent();
+    arenaLines.clear();
+    for (MessageTemplate<User> line : content) {
+      arenaLines.add(line.hasPlaceholder("ORBS") ? null : line.render(null));
+    }
+  }
+
+  private List<MessageTemplate<User>> getContent() {
+    String path;
     if (arena.getArenaState() == ArenaState.IN_GAME) {
-      lines = LanguageManager.getLanguageList("Scoreboard.Content.Playing" + (arena.isFighting() ? "" : "-Waiting"));
+      path = "Scoreboard.Content.Playing" + (arena.isFighting() ? "" : "-Waiting");
     } else {
       //apply fix
       if (arena.getArenaState() == ArenaState.ENDING) {
-        lines = LanguageManager.getLanguageList("Scoreboard.Content.Playing");
+        path = "Scoreboard.Content.Playing";
       } else {
-        lines = LanguageManager.getLanguageList("Scoreboard.Content." + arena.getArenaState().getFormattedName());
+        path = "Scoreboard.Content." + arena.getArenaState().getFormattedName();
       }
     }
-    for (String line : lines) {
-      builder.next(formatScoreboardLine(line, user));
+    return contents.computeIfAbsent(path, this::compileContent);
+  }
+
+  private List<MessageTemplate<User>> compileContent(String path) {
+    List<MessageTemplate<User>> templates = new ArrayList<>();
+    //placeholder values contain no color codes so lines can be colored before compiling
+    for (String line : LanguageManager.getLanguageList(path)) {
+      templates.add(placeholders.compile(plugin.getChatManager().colorRawMessage(line)));
+    }
+    return templates;
+  }
+
+  private String formatUserLine(String line, User user) {
+    if (line.indexOf('%') != -1 && plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+      return PlaceholderAPI.setPlaceholders(user.getPlayer(), line);
     }
-    return builder.build();
+    return line;
   }
 
-  private String formatScoreboardLine(String line, User user) {
-    String formattedLine = line;
-    formattedLine = StringUtils.replace(formattedLine, "%TIME%", String.valueOf(arena.getTimer()));
-    formattedLine = StringUtils.replace(formattedLine, "%PLAYERS%", String.valueOf(arena.getPlayers().size()));
-    formattedLine = StringUtils.replace(formattedLine, "%MIN_PLAYERS%", String.valueOf(arena.getMinimumPlayers()));
-    formattedLine = StringUtils.replace(formattedLine, "%PLAYERS_LEFT%", String.valueOf(arena.getPlayersLeft().size()));
-    formattedLine = StringUtils.replace(formattedLine, "%VILLAGERS%", String.valueOf(arena.getVillagers().size()));
-    formattedLine = StringUtils.replace(formattedLine, "%ORBS%", String.valueOf(user.getStat(StatsStorage.StatisticType.ORBS)));
-    formattedLine = StringUtils.replace(formattedLine, "%ZOMBIES%", String.valueOf(arena.getZombiesLeft()));
-    formattedLine = StringUtils.replace(formattedLine, "%ROTTEN_FLESH%", String.valueOf(arena.getOption(ArenaOption.ROTTEN_FLESH_AMOUNT)));
-    formattedLine = plugin.getChatManager().colorRawMessage(formattedLine);
-    if (plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
-      formattedLine = PlaceholderAPI.setPlaceholders(user.getPlayer(), formattedLine);
+  private static class RenderedBoard {
+
+    private final List<String> lines;
+    private final List<Entry> entries;
+
+    RenderedBoard(List<String> lines, List<Entry> entries) {
+      this.lines = lines;
+      this.entries = entries;
     }
-    return formattedLine;
+
   }
 
 }
@@ -18,11 +18,9 @@
 
 package pl.plajer.villagedefense.arena.managers;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 import org.bukkit.Location;
@@ -30,7 +28,11 @@ import org.bukkit.entity.Villager;
 import org.bukkit.entity.Zombie;
 
 import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.SpawnRateController;
 import pl.plajer.villagedefense.arena.options.ArenaOption;
+import pl.plajer.villagedefense.arena.wave.WavePlan;
+import pl.plajer.villagedefense.arena.wave.WavePlanCompiler;
+import pl.plajer.villagedefense.arena.wave.ZombieType;
 
 /**
  * @author Plajer
@@ -39,197 +41,186 @@ import pl.plajer.villagedefense.arena.options.ArenaOption;
  */
 public class ZombieSpawnManager {
 
+  private static final int GLITCH_CHECK_PERIOD = 60;
+  private static final double GLITCH_DISTANCE_SQUARED = 1.0;
+
   private Random random;
   private Arena arena;
-  private int localIdleProcess = 0;
-  private List<Zombie> glitchedZombies = new ArrayList<>();
-  private Map<Zombie, Location> zombieCheckerLocations = new HashMap<>();
+  private double spawnCredit = 0;
+  private EntityPositionTable checkedPositions = new EntityPositionTable();
+  private Location locationBuffer = new Location(null, 0, 0, 0);
+  private int glitchCheckCursor = -1;
+  private int glitchCheckSlice = 0;
+  private Deque<ZombieType> spawnQueue = new ArrayDeque<>();
+  private WavePlan wavePlan;
 
   public ZombieSpawnManager(Arena arena) {
     this.arena = arena;
     this.random = new Random();
   }
 
-  public void applyIdle(int idle) {
-    localIdleProcess = idle;
-  }
-
   /**
-   * Increments ZOMBIE_GLITCH_CHECKER value and attempts to check
-   * whether any zombies are glitched on spawn point when
-   * ZOMBIE_GLITCH_CHECKER value is higher or equal than 60
+   * Increments ZOMBIE_GLITCH_CHECKER value and checks next slice of alive zombies
+   * whether they aren't glitched on the map. Slice is sized so every zombie is checked
+   * once per 60 arena seconds (ZOMBIE_GLITCH_CHECKER period).
+   * <p>
+   * Zombie that didn't move since last check is teleported to random zombie spawn,
+   * if it didn't move after teleport either it's removed.
    * <p>
    * Glitch checker also clean ups dead zombies and villagers from the arena
    */
   public void spawnGlitchCheck() {
+    List<Zombie> zombies = arena.getZombies();
     arena.addOptionValue(ArenaOption.ZOMBIE_GLITCH_CHECKER, 1);
-    if (arena.getOption(ArenaOption.ZOMBIE_GLITCH_CHECKER) >= 60) {
-      Iterator<Villager> villagerIterator = arena.getVillagers().iterator();
-      while (villagerIterator.hasNext()) {
-        Villager villager = villagerIterator.next();
-        if (villager.isDead()) {
-          villagerIterator.remove();
-          arena.removeVillager(villager);
-        }
-      }
+    if (arena.getOption(ArenaOption.ZOMBIE_GLITCH_CHECKER) >= GLITCH_CHECK_PERIOD) {
       arena.setOptionValue(ArenaOption.ZOMBIE_GLITCH_CHECKER, 0);
+      removeDeadVillagers();
+      glitchCheckCursor = zombies.size() - 1;
+      glitchCheckSlice = (zombies.size() + GLITCH_CHECK_PERIOD - 1) / GLITCH_CHECK_PERIOD;
+    }
+    //iterating backwards, removal swaps already checked last entity into current slot
+    glitchCheckCursor = Math.min(glitchCheckCursor, zombies.size() - 1);
+    for (int i = 0; i < glitchCheckSlice && glitchCheckCursor >= 0; i++) {
+      checkGlitchedZombie(zombies.get(glitchCheckCursor));
+      glitchCheckCursor--;
+    }
+  }
 
-      Iterator<Zombie> zombieIterator = arena.getZombies().iterator();
-      while (zombieIterator.hasNext()) {
-        Zombie zombie = zombieIterator.next();
-        if (zombie.isDead()) {
-          zombieIterator.remove();
-          arena.removeZombie(zombie);
-          continue;
-        }
-        if (glitchedZombies.contains(zombie) && zombie.getLocation().distance(zombieCheckerLocations.get(zombie)) <= 1) {
-          zombieIterator.remove();
-          arena.removeZombie(zombie);
-          zombieCheckerLocations.remove(zombie);
-          zombie.remove();
-        }
-        if (zombieCheckerLocations.get(zombie) == null) {
-          zombieCheckerLocations.put(zombie, zombie.getLocation());
-        } else {
-          Location location = zombieCheckerLocations.get(zombie);
-
-          if (zombie.getLocation().distance(location) <= 1) {
-            zombie.teleport(arena.getZombieSpawns().get(random.nextInt(arena.getZombieSpawns().size() - 1)));
-            zombieCheckerLocations.put(zombie, zombie.getLocation());
-            glitchedZombies.add(zombie);
-          }
-        }
+  private void removeDeadVillagers() {
+    List<Villager> villagers = arena.getVillagers();
+    for (int i = villagers.size() - 1; i >= 0; i--) {
+      Villager villager = villagers.get(i);
+      if (villager.isDead()) {
+        arena.removeVillager(villager);
       }
     }
   }
 
-  public Map<Zombie, Location> getZombieCheckerLocations() {
-    return zombieCheckerLocations;
+  private void checkGlitchedZombie(Zombie zombie) {
+    if (zombie.isDead()) {
+      arena.removeZombie(zombie);
+      return;
+    }
+    zombie.getLocation(locationBuffer);
+    int slot = checkedPositions.find(zombie.getEntityId());
+    if (slot == -1) {
+      checkedPositions.put(zombie.getEntityId(), locationBuffer.getX(), locationBuffer.getY(), locationBuffer.getZ());
+      return;
+    }
+    if (checkedPositions.distanceSquared(slot, locationBuffer.getX(), locationBuffer.getY(), locationBuffer.getZ()) > GLITCH_DISTANCE_SQUARED) {
+      checkedPositions.put(zombie.getEntityId(), locationBuffer.getX(), locationBuffer.getY(), locationBuffer.getZ());
+      return;
+    }
+    if (checkedPositions.isFlagged(slot)) {
+      arena.removeZombie(zombie);
+      zombie.remove();
+      return;
+    }
+    zombie.teleport(arena.getZombieSpawns().get(random.nextInt(arena.getZombieSpawns().size())));
+    zombie.getLocation(locationBuffer);
+    slot = checkedPositions.put(zombie.getEntityId(), locationBuffer.getX(), locationBuffer.getY(), locationBuffer.getZ());
+    checkedPositions.setFlagged(slot, true);
   }
 
   /**
-   * Spawns some zombies in arena.
+   * Removes zombie from glitch checker, called when zombie is removed from arena
+   *
+   * @param zombie zombie to forget
+   */
+  public void forgetZombie(Zombie zombie) {
+    checkedPositions.remove(zombie.getEntityId());
+  }
+
+  public void clearGlitchChecks() {
+    checkedPositions.clear();
+    glitchCheckCursor = -1;
+  }
+
+  /**
+   * Compiles spawn plan for the wave that is starting
+   *
+   * @param wave   starting wave
+   * @param amount amount of zombies to spawn in the wave
+   * @see WavePlanCompiler
+   */
+  public void prepareWave(int wave, int amount) {
+    wavePlan = WavePlanCompiler.compile(wave, amount, random);
+  }
+
+  /**
+   * Queues next zombies from the wave plan, queued zombies
+   * are spawned in next ticks by ArenaTickScheduler.
    * <p>
-   * Variety and amount of zombies depends
-   * on random value and current wave
+   * Amount of zombies queued per call depends on the wave plan
+   * spawn rate, at least wave + 1 zombies are queued when arena has no zombies.
+   * Zombies over the alive zombies cap are not queued, they stay in the
+   * ZOMBIES_TO_SPAWN backlog until alive ones die.
    */
   public void spawnZombies() {
-    if (!checkForIdle()) {
+    if (!checkForIdle() || wavePlan == null) {
       return;
     }
-    int wave = arena.getOption(ArenaOption.WAVE);
-    int zombiesToSpawn = arena.getOption(ArenaOption.ZOMBIES_TO_SPAWN);
-    if (arena.getZombies() == null || arena.getZombies().isEmpty()) {
-      for (int i = 0; i <= wave; i++) {
-        if (zombiesToSpawn > 0) {
-          arena.spawnFastZombie(random);
-        }
-      }
-    }
-    arena.addOptionValue(ArenaOption.ZOMBIE_SPAWN_COUNTER, 1);
-    if (arena.getOption(ArenaOption.ZOMBIE_SPAWN_COUNTER) == 20) {
-      arena.setOptionValue(ArenaOption.ZOMBIE_SPAWN_COUNTER, 0);
-    }
-    if (zombiesToSpawn < 5 && zombiesToSpawn > 0) {
-      arena.spawnFastZombie(random);
-      return;
+    int amount = wavePlan.getSpawnRate();
+    if (arena.getZombies().isEmpty() && spawnQueue.isEmpty()) {
+      amount = Math.max(amount, arena.getWave() + 1);
     }
-    if (arena.getOption(ArenaOption.ZOMBIE_SPAWN_COUNTER) == 5) {
-      if (random.nextInt(3) != 2) {
-        for (int i = 0; i <= wave; i++) {
-          if (zombiesToSpawn > 0) {
-            if (wave > 23) {
-              if (random.nextInt(4) == 1) {
-                arena.spawnVillagerSlayer(random);
-              }
-            } else if (wave > 20) {
-              if (random.nextInt(3) == 1) {
-                arena.spawnKnockbackResistantZombies(random);
-              }
-            } else if (wave > 14) {
-              if (random.nextInt(2) == 1) {
-                arena.spawnHardZombie(random);
-              }
-            }
-            if (wave > 7) {
-              if (random.nextInt(2) == 1) {
-                arena.spawnSoftHardZombie(random);
-              }
-            } else {
-              arena.spawnFastZombie(random);
-            }
-          }
-        }
-      } else {
-        for (int i = 0; i <= wave; i++) {
-          if (zombiesToSpawn > 0) {
-            arena.spawnBabyZombie(random);
-          }
-        }
+    amount = Math.min(amount, SpawnRateController.getLiveZombiesCap() - arena.getZombies().size() - spawnQueue.size());
+    for (int i = 0; i < amount && wavePlan.hasNext() && arena.getOption(ArenaOption.ZOMBIES_TO_SPAWN) > 0; i++) {
+      ZombieType type = wavePlan.next();
+      //golem busters are pointless without golems, other wave types keep their proportions
+      if (type == ZombieType.GOLEM_BUSTER && arena.getIronGolems().isEmpty()) {
+        type = wavePlan.drawGolemBusterSubstitute(random);
       }
+      enqueue(type);
     }
-    if (arena.getOption(ArenaOption.ZOMBIE_SPAWN_COUNTER) == 15 && wave > 4) {
-      if (wave > 8) {
-        for (int i = 0; i < (wave - 7); i++) {
-          if (zombiesToSpawn > 0) {
-            arena.spawnHardZombie(random);
-          }
-        }
-      } else {
-        for (int i = 0; i < (wave - 3); i++) {
-          if (zombiesToSpawn > 0) {
-            arena.spawnSoftHardZombie(random);
-          }
-        }
-      }
+  }
 
-    }
+  /**
+   * Queues zombie to spawn, queued zombie is no longer counted in ZOMBIES_TO_SPAWN option
+   * but in spawn queue size
+   *
+   * @param type type of zombie to spawn
+   */
+  private void enqueue(ZombieType type) {
+    spawnQueue.add(type);
+    arena.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, arena.getOption(ArenaOption.ZOMBIES_TO_SPAWN) - 1);
+  }
 
-    if (random.nextInt(8) == 0 && wave > 10) {
-      for (int i = 0; i < (wave - 8); i++) {
-        if (zombiesToSpawn > 0) {
-          arena.spawnPlayerBuster(random);
-        }
-      }
-    }
-    if (random.nextInt(8) == 0 && wave > 7) {
-      for (int i = 0; i < (wave - 5); i++) {
-        if (zombiesToSpawn > 0) {
-          arena.spawnHalfInvisibleZombie(random);
-        }
-      }
-    }
-    if (random.nextInt(8) == 0 && wave > 15) {
-      for (int i = 0; i < (wave - 13); i++) {
-        if (zombiesToSpawn > 0) {
-          arena.spawnHalfInvisibleZombie(random);
-        }
-      }
-    }
-    if (random.nextInt(8) == 0 && wave > 23) {
-      if (zombiesToSpawn > 0) {
-        arena.spawnHalfInvisibleZombie(random);
-      }
-    }
-    if (random.nextInt(8) == 0 && !arena.getIronGolems().isEmpty() && wave >= 6) {
-      for (int i = 0; i < (wave - 4); i++) {
-        if (zombiesToSpawn > 0) {
-          arena.spawnGolemBuster(random);
-        }
-      }
+  /**
+   * Spawns next queued zombie unless arena reached its alive zombies cap
+   *
+   * @return true if zombie was spawned, false if queue was empty or cap was reached
+   * @see SpawnRateController#getLiveZombiesCap()
+   */
+  public boolean spawnQueuedZombie() {
+    if (spawnQueue.isEmpty() || arena.getZombies().size() >= SpawnRateController.getLiveZombiesCap()) {
+      return false;
     }
+    ZombieType type = spawnQueue.poll();
+    type.spawn(arena, random);
+    return true;
+  }
+
+  public int getQueuedZombies() {
+    return spawnQueue.size();
+  }
+
+  public void clearSpawnQueue() {
+    spawnQueue.clear();
   }
 
   private boolean checkForIdle() {
-    //Idling to ~~save server stability~~ protect against hordes of zombies
-    if (localIdleProcess > 0) {
-      localIdleProcess--;
+    //server load dependent, with full rate spawning is attempted every second
+    spawnCredit = Math.min(1.0, spawnCredit + SpawnRateController.getMultiplier());
+    if (spawnCredit < 1.0) {
       return false;
-    } else {
-      applyIdle(arena.getOption(ArenaOption.ZOMBIE_IDLE_PROCESS));
-      //continue spawning
-      return true;
     }
+    spawnCredit -= 1.0;
+    return true;
+  }
+
+  public void resetSpawnCredit() {
+    spawnCredit = 0;
   }
 
 }
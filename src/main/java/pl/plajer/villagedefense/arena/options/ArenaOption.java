@@ -76,19 +76,18 @@ public enum ArenaOption {
    */
   ZOMBIE_GLITCH_CHECKER(0),
   /**
-   * Value that describes progress of zombies spawning in wave in arena.
-   * <p>
-   * It's counting up to 20 and resets to 0.
-   * If value is equal 5 or 15 and wave is enough high special
-   * zombie units will be spawned in addition to standard ones.
+   * Value is no longer used, zombies are spawned from compiled wave plans.
+   *
+   * @deprecated replaced by {@link pl.plajer.villagedefense.arena.wave.WavePlanCompiler}
    */
+  @Deprecated
   ZOMBIE_SPAWN_COUNTER(0),
   /**
-   * Value describes how many seconds zombie spawn system should halt and not spawn any entity.
-   * This value reduces server load and lag preventing spawning hordes at once.
-   * Example when wave is 30 counter will set value to 2 halting zombies spawn for 2 seconds
-   * Algorithm: floor(wave / 15)
+   * Value is no longer used, zombie spawn rate is adapted to server load.
+   *
+   * @deprecated replaced by {@link pl.plajer.villagedefense.arena.SpawnRateController}
    */
+  @Deprecated
   ZOMBIE_IDLE_PROCESS(0),
   /**
    * Value that describes the multiplier of extra health zombies will receive.
@@ -50,12 +50,12 @@ public class RestartingState implements ArenaStateHandler {
   @Override
   public void handleCall(Arena arena) {
     arena.getMapRestorerManager().fullyRestoreArena();
-    arena.getPlayers().clear();
+    arena.clearPlayers();
     arena.setArenaState(ArenaState.WAITING_FOR_PLAYERS);
 
     arena.resetOptionValues();
     arena.getDroppedFleshes().stream().filter(Objects::nonNull).forEach(Entity::remove);
-    arena.getDroppedFleshes().clear();
+    arena.clearDroppedFleshes();
     if (plugin.getModuleLoader().isModulePresent("Bungee Cord")) {
       if (ConfigUtils.getConfig(plugin, "bungee").getBoolean("Shutdown-When-Game-Ends", false)) {
         plugin.getServer().shutdown();
@@ -0,0 +1,86 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.wave;
+
+import java.util.Random;
+
+/**
+ * Walker's alias method table, samples index with probability
+ * proportional to its weight in constant time.
+ */
+public class AliasTable {
+
+  private final double[] probability;
+  private final int[] alias;
+
+  /**
+   * @param weights non negative weights, at least one must be positive
+   * @throws IllegalArgumentException if no weight is positive
+   */
+  public AliasTable(double[] weights) {
+    int size = weights.length;
+    double sum = 0;
+    for (double weight : weights) {
+      sum += Math.max(0, weight);
+    }
+    if (sum <= 0) {
+      throw new IllegalArgumentException("At least one weight must be positive");
+    }
+    probability = new double[size];
+    alias = new int[size];
+    double[] scaled = new double[size];
+    int[] small = new int[size];
+    int[] large = new int[size];
+    int smallSize = 0;
+    int largeSize = 0;
+    for (int i = 0; i < size; i++) {
+      scaled[i] = Math.max(0, weights[i]) * size / sum;
+      if (scaled[i] < 1.0) {
+        small[smallSize++] = i;
+      } else {
+        large[largeSize++] = i;
+      }
+    }
+    while (smallSize > 0 && largeSize > 0) {
+      int less = small[--smallSize];
+      int more = large[--largeSize];
+      probability[less] = scaled[less];
+      alias[less] = more;
+      scaled[more] = scaled[more] + scaled[less] - 1.0;
+      if (scaled[more] < 1.0) {
+        small[smallSize++] = more;
+      } else {
+        large[largeSize++] = more;
+      }
+    }
+    //leftovers are full columns, floating point errors can leave some in small stack
+    while (largeSize > 0) {
+      probability[large[--largeSize]] = 1.0;
+    }
+    while (smallSize > 0) {
+      probability[small[--smallSize]] = 1.0;
+    }
+  }
+
+  public int sample(Random random) {
+    int column = random.nextInt(probability.length);
+    return random.nextDouble() < probability[column] ? column : alias[column];
+  }
+
+}
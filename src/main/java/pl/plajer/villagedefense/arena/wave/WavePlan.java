@@ -0,0 +1,100 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.wave;
+
+import java.util.Random;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compiled spawn plan of a single wave, zombies
+ * are taken in precomputed order.
+ *
+ * @see WavePlanCompiler
+ */
+public class WavePlan {
+
+  private final int wave;
+  private final ZombieType[] order;
+  private final int[] counts;
+  private final int spawnRate;
+  //wave weights without golem busters, null if wave has no other zombie types
+  @Nullable
+  private final AliasTable golemBusterSubstitutes;
+  private int cursor = 0;
+
+  WavePlan(int wave, ZombieType[] order, int[] counts, int spawnRate, @Nullable AliasTable golemBusterSubstitutes) {
+    this.wave = wave;
+    this.order = order;
+    this.counts = counts;
+    this.spawnRate = spawnRate;
+    this.golemBusterSubstitutes = golemBusterSubstitutes;
+  }
+
+  public int getWave() {
+    return wave;
+  }
+
+  public boolean hasNext() {
+    return cursor < order.length;
+  }
+
+  public ZombieType next() {
+    ZombieType type = order[cursor++];
+    counts[type.ordinal()]--;
+    return type;
+  }
+
+  /**
+   * Draws zombie type to spawn instead of planned golem buster when arena has no golems,
+   * other types are drawn in their wave proportions
+   *
+   * @param random random to draw zombie type with
+   * @return substitute type or golem buster if wave has no other zombie types
+   */
+  public ZombieType drawGolemBusterSubstitute(Random random) {
+    if (golemBusterSubstitutes == null) {
+      return ZombieType.GOLEM_BUSTER;
+    }
+    return ZombieType.values()[golemBusterSubstitutes.sample(random)];
+  }
+
+  /**
+   * @return amount of zombies left in plan
+   */
+  public int remaining() {
+    return order.length - cursor;
+  }
+
+  /**
+   * @param type zombie type
+   * @return amount of zombies of given type left in plan
+   */
+  public int getCount(ZombieType type) {
+    return counts[type.ordinal()];
+  }
+
+  /**
+   * @return amount of zombies that should be queued per arena second
+   */
+  public int getSpawnRate() {
+    return spawnRate;
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.wave;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import pl.plajer.villagedefense.Main;
+import pl.plajer.villagedefense.utils.Debugger;
+import pl.plajer.villagedefense.utils.constants.Constants;
+import pl.plajerlair.commonsbox.minecraft.configuration.ConfigUtils;
+
+/**
+ * Compiles spawn plans of waves from waves.yml definitions.
+ * Wave uses definition of the highest defined wave lower or equal to it,
+ * waves without definition use built-in composition curve.
+ */
+public class WavePlanCompiler {
+
+  private static final ZombieType[] TYPES = ZombieType.values();
+  //length of the former spawn cycle that built-in weights are counted for
+  private static final int CURVE_CYCLE_SECONDS = 20;
+  private static NavigableMap<Integer, WaveDefinition> definitions = new TreeMap<>();
+  private static Main plugin;
+
+  private WavePlanCompiler() {
+  }
+
+  public static void init(Main plugin) {
+    WavePlanCompiler.plugin = plugin;
+    reload();
+  }
+
+  public static void reload() {
+    NavigableMap<Integer, WaveDefinition> loaded = new TreeMap<>();
+    FileConfiguration config = ConfigUtils.getConfig(plugin, Constants.Files.WAVES.getName());
+    ConfigurationSection section = config.getConfigurationSection("waves");
+    if (section != null) {
+      for (String key : section.getKeys(false)) {
+        WaveDefinition definition = loadDefinition(key, section.getConfigurationSection(key));
+        if (definition != null) {
+          loaded.put(Integer.parseInt(key), definition);
+        }
+      }
+    }
+    definitions = loaded;
+    Debugger.debug(Level.INFO, "[WavePlanCompiler] Loaded {0} wave definitions", loaded.size());
+  }
+
+  private static WaveDefinition loadDefinition(String key, ConfigurationSection section) {
+    if (section == null || !isNumber(key)) {
+      Debugger.debug(Level.WARNING, "[WavePlanCompiler] Invalid wave definition {0}, skipping", key);
+      return null;
+    }
+    double[] weights = new double[TYPES.length];
+    ConfigurationSection weightsSection = section.getConfigurationSection("weights");
+    if (weightsSection != null) {
+      for (String type : weightsSection.getKeys(false)) {
+        try {
+          weights[ZombieType.valueOf(type.toUpperCase(Locale.ROOT)).ordinal()] = Math.max(0, weightsSection.getDouble(type));
+        } catch (IllegalArgumentException ex) {
+          Debugger.debug(Level.WARNING, "[WavePlanCompiler] Unknown zombie type {0} in wave {1}, skipping", type, key);
+        }
+      }
+    }
+    double sum = 0;
+    for (double weight : weights) {
+      sum += weight;
+    }
+    if (sum <= 0) {
+      Debugger.debug(Level.WARNING, "[WavePlanCompiler] Wave {0} has no positive zombie weights, skipping", key);
+      return null;
+    }
+    return new WaveDefinition(weights, Math.max(1, section.getInt("spawn-rate", getDefaultSpawnRate(Integer.parseInt(key)))));
+  }
+
+  private static boolean isNumber(String key) {
+    try {
+      Integer.parseInt(key);
+      return true;
+    } catch (NumberFormatException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Compiles spawn plan of the wave
+   *
+   * @param wave   wave number
+   * @param amount amount of zombies to spawn in the wave
+   * @param random random to draw zombie types with
+   * @return compiled wave plan
+   */
+  public static WavePlan compile(int wave, int amount, Random random) {
+    Map.Entry<Integer, WaveDefinition> entry = definitions.floorEntry(wave);
+    double[] weights = entry == null ? getDefaultWeights(wave) : entry.getValue().weights;
+    int spawnRate = entry == null ? getDefaultSpawnRate(wave) : entry.getValue().spawnRate;
+    AliasTable table = new AliasTable(weights);
+    ZombieType[] order = new ZombieType[Math.max(0, amount)];
+    int[] counts = new int[TYPES.length];
+    for (int i = 0; i < order.length; i++) {
+      ZombieType type = TYPES[table.sample(random)];
+      order[i] = type;
+      counts[type.ordinal()]++;
+    }
+    return new WavePlan(wave, order, counts, spawnRate, getGolemBusterSubstitutes(weights));
+  }
+
+  @Nullable
+  private static AliasTable getGolemBusterSubstitutes(double[] weights) {
+    double[] substitutes = weights.clone();
+    substitutes[ZombieType.GOLEM_BUSTER.ordinal()] = 0;
+    for (double weight : substitutes) {
+      if (weight > 0) {
+        return new AliasTable(substitutes);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Built-in composition curve, weights are expected amounts of each
+   * zombie type spawned during CURVE_CYCLE_SECONDS by the former spawn routine
+   *
+   * @param wave wave number
+   * @return weights indexed by zombie type ordinal
+   */
+  static double[] getDefaultWeights(int wave) {
+    double[] weights = new double[TYPES.length];
+    //standard units, 2 of 3 times on fifth second of the cycle
+    double standard = (wave + 1) * 2.0 / 3.0;
+    if (wave > 23) {
+      weights[ZombieType.VILLAGER_SLAYER.ordinal()] += standard / 4;
+    } else if (wave > 20) {
+      weights[ZombieType.KNOCKBACK_RESISTANT.ordinal()] += standard / 3;
+    } else if (wave > 14) {
+      weights[ZombieType.HARD.ordinal()] += standard / 2;
+    }
+    if (wave > 7) {
+      weights[ZombieType.SOFT_HARD.ordinal()] += standard / 2;
+    } else {
+      weights[ZombieType.FAST.ordinal()] += standard;
+    }
+    //baby units 1 of 3 times, fast units from bursts when arena has no zombies
+    weights[ZombieType.BABY.ordinal()] += (wave + 1) / 3.0;
+    weights[ZombieType.FAST.ordinal()] += (wave + 1) / 3.0;
+    //tough units on fifteenth second of the cycle
+    if (wave > 8) {
+      weights[ZombieType.HARD.ordinal()] += wave - 7;
+    } else if (wave > 4) {
+      weights[ZombieType.SOFT_HARD.ordinal()] += wave - 3;
+    }
+    //special units, each had 1 in 8 chance every second
+    if (wave > 10) {
+      weights[ZombieType.PLAYER_BUSTER.ordinal()] += 2.5 * (wave - 8);
+    }
+    if (wave > 7) {
+      weights[ZombieType.HALF_INVISIBLE.ordinal()] += 2.5 * (wave - 5);
+    }
+    if (wave > 15) {
+      weights[ZombieType.HALF_INVISIBLE.ordinal()] += 2.5 * (wave - 13);
+    }
+    if (wave > 23) {
+      weights[ZombieType.HALF_INVISIBLE.ordinal()] += 2.5;
+    }
+    if (wave >= 6) {
+      weights[ZombieType.GOLEM_BUSTER.ordinal()] += 2.5 * (wave - 4);
+    }
+    return weights;
+  }
+
+  /**
+   * Built-in spawn rate, expected amount of zombies of the built-in curve per second
+   *
+   * @param wave wave number
+   * @return amount of zombies queued per arena second, at least 1
+   * @see #getDefaultWeights(int)
+   */
+  static int getDefaultSpawnRate(int wave) {
+    double sum = 0;
+    for (double weight : getDefaultWeights(wave)) {
+      sum += weight;
+    }
+    return Math.max(1, (int) Math.round(sum / CURVE_CYCLE_SECONDS));
+  }
+
+  private static class WaveDefinition {
+
+    private final double[] weights;
+    private final int spawnRate;
+
+    WaveDefinition(double[] weights, int spawnRate) {
+      this.weights = weights;
+      this.spawnRate = spawnRate;
+    }
+
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.wave;
+
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import pl.plajer.villagedefense.arena.Arena;
+
+/**
+ * Types of zombies arena can spawn, names are used in waves.yml
+ */
+public enum ZombieType {
+  FAST(Arena::spawnFastZombie), BABY(Arena::spawnBabyZombie), HARD(Arena::spawnHardZombie),
+  SOFT_HARD(Arena::spawnSoftHardZombie), PLAYER_BUSTER(Arena::spawnPlayerBuster),
+  GOLEM_BUSTER(Arena::spawnGolemBuster), HALF_INVISIBLE(Arena::spawnHalfInvisibleZombie),
+  KNOCKBACK_RESISTANT(Arena::spawnKnockbackResistantZombies), VILLAGER_SLAYER(Arena::spawnVillagerSlayer);
+
+  private final BiConsumer<Arena, Random> spawner;
+
+  ZombieType(BiConsumer<Arena, Random> spawner) {
+    this.spawner = spawner;
+  }
+
+  public void spawn(Arena arena, Random random) {
+    spawner.accept(arena, random);
+  }
+}
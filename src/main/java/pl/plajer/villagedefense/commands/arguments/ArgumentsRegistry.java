@@ -46,6 +46,7 @@ import pl.plajer.villagedefense.commands.arguments.admin.ModulesArgument;
 import pl.plajer.villagedefense.commands.arguments.admin.ReloadArgument;
 import pl.plajer.villagedefense.commands.arguments.admin.RespawnArgument;
 import pl.plajer.villagedefense.commands.arguments.admin.SetPriceArgument;
+import pl.plajer.villagedefense.commands.arguments.admin.SpawnRateArgument;
 import pl.plajer.villagedefense.commands.arguments.admin.SpyChatArgument;
 import pl.plajer.villagedefense.commands.arguments.admin.TeleportArgument;
 import pl.plajer.villagedefense.commands.arguments.admin.arena.DeleteArgument;
@@ -115,6 +116,7 @@ public class ArgumentsRegistry implements CommandExecutor {
     new ListArenasArgument(this);
     new RespawnArgument(this);
     new SetPriceArgument(this);
+    new SpawnRateArgument(this);
     spyChat = new SpyChatArgument(this);
     new TeleportArgument(this);
     new ModulesArgument(this);
@@ -74,7 +74,7 @@ public class ClearEntitiesArgument {
               villager.getWorld().spawnParticle(Particle.LAVA, villager.getLocation(), 20);
               villager.remove();
             }
-            arena.getVillagers().clear();
+            arena.clearVillagers();
             Utils.playSound(((Player) sender).getLocation(), "ENTITY_VILLAGER_DEATH", "ENTITY_VILLAGER_DEATH");
             clearMessage = registry.getPlugin().getChatManager().colorMessage(Messages.ADMIN_MESSAGES_REMOVED_VILLAGERS);
             break;
@@ -84,7 +84,7 @@ public class ClearEntitiesArgument {
               return;
             }
             ArenaUtils.removeSpawnedZombies(arena);
-            arena.getZombies().clear();
+            arena.clearZombies();
             arena.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, 0);
             Utils.playSound(((Player) sender).getLocation(), "ENTITY_ZOMBIE_DEATH", "ENTITY_ZOMBIE_DEATH");
             clearMessage = registry.getPlugin().getChatManager().colorMessage(Messages.ADMIN_MESSAGES_REMOVED_ZOMBIES);
@@ -98,7 +98,7 @@ public class ClearEntitiesArgument {
               golem.getWorld().spawnParticle(Particle.LAVA, golem.getLocation(), 20);
               golem.remove();
             }
-            arena.getIronGolems().clear();
+            arena.clearIronGolems();
             Utils.playSound(((Player) sender).getLocation(), "ENTITY_IRONGOLEM_DEATH", "ENTITY_IRON_GOLEM_DEATH");
             clearMessage = registry.getPlugin().getChatManager().colorMessage(Messages.ADMIN_MESSAGES_REMOVED_GOLEMS);
             break;
@@ -111,7 +111,7 @@ public class ClearEntitiesArgument {
               wolf.getWorld().spawnParticle(Particle.LAVA, wolf.getLocation(), 20);
               wolf.remove();
             }
-            arena.getWolves().clear();
+            arena.clearWolves();
             Utils.playSound(((Player) sender).getLocation(), "ENTITY_WOLF_DEATH", "ENTITY_WOLF_DEATH");
             clearMessage = registry.getPlugin().getChatManager().colorMessage(Messages.ADMIN_MESSAGES_REMOVED_WOLVES);
             break;
@@ -30,10 +30,14 @@ import pl.plajer.villagedefense.ConfigPreferences;
 import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaManager;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
+import pl.plajer.villagedefense.arena.SpawnRateController;
+import pl.plajer.villagedefense.arena.wave.WavePlanCompiler;
 import pl.plajer.villagedefense.commands.arguments.ArgumentsRegistry;
 import pl.plajer.villagedefense.commands.arguments.data.CommandArgument;
 import pl.plajer.villagedefense.commands.arguments.data.LabelData;
 import pl.plajer.villagedefense.commands.arguments.data.LabeledCommandArgument;
+import pl.plajer.villagedefense.creatures.ZombieHealthBarRenderer;
+import pl.plajer.villagedefense.creatures.ZombieTemplateRegistry;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
 import pl.plajer.villagedefense.handlers.language.Messages;
 import pl.plajerlair.commonsbox.minecraft.serialization.InventorySerializer;
@@ -63,6 +67,10 @@ public class ReloadArgument {
 
         registry.getPlugin().reloadConfig();
         LanguageManager.reloadConfig();
+        WavePlanCompiler.reload();
+        SpawnRateController.reload();
+        ZombieHealthBarRenderer.reload();
+        ZombieTemplateRegistry.reload();
 
         for (Arena arena : ArenaRegistry.getArenas()) {
           for (Player player : arena.getPlayers()) {
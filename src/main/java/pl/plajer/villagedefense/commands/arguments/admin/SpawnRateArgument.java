@@ -0,0 +1,62 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.commands.arguments.admin;
+
+import org.bukkit.command.CommandSender;
+
+import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.ArenaRegistry;
+import pl.plajer.villagedefense.arena.ArenaState;
+import pl.plajer.villagedefense.arena.ArenaTickScheduler;
+import pl.plajer.villagedefense.arena.SpawnRateController;
+import pl.plajer.villagedefense.arena.options.ArenaOption;
+import pl.plajer.villagedefense.commands.arguments.ArgumentsRegistry;
+import pl.plajer.villagedefense.commands.arguments.data.CommandArgument;
+import pl.plajer.villagedefense.commands.arguments.data.LabelData;
+import pl.plajer.villagedefense.commands.arguments.data.LabeledCommandArgument;
+import pl.plajer.villagedefense.handlers.ChatManager;
+
+public class SpawnRateArgument {
+
+  public SpawnRateArgument(ArgumentsRegistry registry) {
+    registry.mapArgument("villagedefenseadmin", new LabeledCommandArgument("spawnrate", "villagedefense.admin.spawnrate", CommandArgument.ExecutorType.BOTH,
+        new LabelData("/vda spawnrate", "/vda spawnrate",
+            "&7Shows zombie spawn rate adapted to server load\n&6Permission: &7villagedefense.admin.spawnrate")) {
+      @Override
+      public void execute(CommandSender sender, String[] args) {
+        ChatManager chatManager = registry.getPlugin().getChatManager();
+        sender.sendMessage(chatManager.colorRawMessage("&e&lZombie spawn rate"));
+        sender.sendMessage(chatManager.colorRawMessage("&7TPS: &e" + String.format("%.2f", SpawnRateController.getTps())
+            + " &7(average tick &e" + String.format("%.2f", SpawnRateController.getAverageTickMillis()) + "ms&7)"));
+        sender.sendMessage(chatManager.colorRawMessage("&7Spawn rate multiplier: &e" + String.format("%.2f", SpawnRateController.getMultiplier())));
+        sender.sendMessage(chatManager.colorRawMessage("&7Spawns per tick: &e" + ArenaTickScheduler.getMaxSpawnsPerTick()
+            + " &7Alive zombies cap per arena: &e" + SpawnRateController.getLiveZombiesCap()
+            + " &7global: &e" + SpawnRateController.getGlobalLiveZombiesCap()));
+        for (Arena arena : ArenaRegistry.getArenas()) {
+          if (arena.getArenaState() != ArenaState.IN_GAME) {
+            continue;
+          }
+          sender.sendMessage(chatManager.colorRawMessage("&7- &e" + arena.getId() + "&7: alive &e" + arena.getZombies().size()
+              + " &7queued &e" + arena.getZombieSpawnManager().getQueuedZombies() + " &7backlog &e" + arena.getOption(ArenaOption.ZOMBIES_TO_SPAWN)));
+        }
+      }
+    });
+  }
+
+}
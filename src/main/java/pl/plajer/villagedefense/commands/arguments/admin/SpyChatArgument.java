@@ -18,8 +18,8 @@
 
 package pl.plajer.villagedefense.commands.arguments.admin;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
@@ -37,7 +37,8 @@ import pl.plajer.villagedefense.commands.arguments.data.LabeledCommandArgument;
  */
 public class SpyChatArgument {
 
-  private Set<Player> spyChatters = new HashSet<>();
+  //read by async chat events
+  private Set<Player> spyChatters = ConcurrentHashMap.newKeySet();
 
   public SpyChatArgument(ArgumentsRegistry registry) {
     registry.mapArgument("villagedefenseadmin", new LabeledCommandArgument("spychat", "villagedefense.admin.spychat", CommandArgument.ExecutorType.PLAYER,
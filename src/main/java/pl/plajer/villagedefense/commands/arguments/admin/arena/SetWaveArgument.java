@@ -67,7 +67,7 @@ public class SetWaveArgument {
         }
         if (arena.getZombies() != null) {
           ArenaUtils.removeSpawnedZombies(arena);
-          arena.getZombies().clear();
+          arena.clearZombies();
           arena.setOptionValue(ArenaOption.ZOMBIES_TO_SPAWN, 0);
         }
       }
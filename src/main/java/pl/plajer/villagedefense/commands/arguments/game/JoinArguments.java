@@ -44,11 +44,10 @@ public class JoinArguments {
           sender.sendMessage(registry.getPlugin().getChatManager().getPrefix() + registry.getPlugin().getChatManager().colorMessage(Messages.COMMANDS_TYPE_ARENA_NAME));
           return;
         }
-        for (Arena arena : ArenaRegistry.getArenas()) {
-          if (args[1].equalsIgnoreCase(arena.getId())) {
-            ArenaManager.joinAttempt((Player) sender, arena);
-            return;
-          }
+        Arena arena = ArenaRegistry.getArena(args[1]);
+        if (arena != null) {
+          ArenaManager.joinAttempt((Player) sender, arena);
+          return;
         }
         sender.sendMessage(registry.getPlugin().getChatManager().getPrefix() + registry.getPlugin().getChatManager().colorMessage(Messages.COMMANDS_NO_ARENA_LIKE_THAT));
       }
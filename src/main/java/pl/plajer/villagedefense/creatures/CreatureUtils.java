@@ -25,15 +25,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
-import org.bukkit.ChatColor;
-import org.bukkit.attribute.Attribute;
-import org.bukkit.entity.Zombie;
-
 import pl.plajer.villagedefense.Main;
-import pl.plajer.villagedefense.arena.Arena;
-import pl.plajer.villagedefense.arena.options.ArenaOption;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
-import pl.plajerlair.commonsbox.string.StringFormatUtils;
 
 /**
  * @author Plajer
@@ -84,24 +77,6 @@ public class CreatureUtils {
     return o;
   }
 
-  /**
-   * Applies attributes (i.e. health bar (if enabled),
-   * health multiplier and follow range) to target zombie.
-   *
-   * @param zombie zombie to apply attributes for
-   * @param arena  arena to get health multiplier from
-   */
-  public static void applyAttributes(Zombie zombie, Arena arena) {
-    zombie.getAttribute(Attribute.GENERIC_FOLLOW_RANGE).setBaseValue(200.0D);
-    zombie.getAttribute(Attribute.GENERIC_MAX_HEALTH).setBaseValue(zombie.getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue() + arena.getOption(ArenaOption.ZOMBIE_DIFFICULTY_MULTIPLIER));
-    if (plugin.getConfig().getBoolean("Simple-Zombie-Health-Bar-Enabled", true)) {
-      zombie.setCustomNameVisible(true);
-      zombie.setCustomName(StringFormatUtils.getProgressBar((int) zombie.getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue(),
-          (int) zombie.getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue(), 50, "|",
-          ChatColor.YELLOW + "", ChatColor.GRAY + ""));
-    }
-  }
-
   public static float getZombieSpeed() {
     return zombieSpeed;
   }
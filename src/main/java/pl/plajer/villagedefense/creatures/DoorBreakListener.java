@@ -18,19 +18,22 @@
 
 package pl.plajer.villagedefense.creatures;
 
+import java.util.List;
 import java.util.Random;
 
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
-import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
-import org.bukkit.entity.EntityType;
-import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Zombie;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.Nullable;
 
 import pl.plajer.villagedefense.Main;
+import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.ArenaRegistry;
+import pl.plajer.villagedefense.arena.ArenaState;
 import pl.plajer.villagedefense.utils.Utils;
 import pl.plajer.villagedefense.utils.constants.CompatMaterialConstants;
 import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
@@ -41,6 +44,7 @@ import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
 public class DoorBreakListener extends BukkitRunnable {
 
   private Random random = new Random();
+  private Location locationBuffer = new Location(null, 0, 0, 0);
   private Main plugin;
 
   public DoorBreakListener(Main plugin) {
@@ -48,33 +52,64 @@ public class DoorBreakListener extends BukkitRunnable {
     this.runTaskTimer(plugin, 1, 20);
   }
 
+  /**
+   * Checks zombies of running arenas against arena doors index,
+   * every zombie standing within 1 block of arena door attacks it
+   */
   @Override
   public void run() {
-    for (World world : Bukkit.getServer().getWorlds()) {
-      for (LivingEntity entity : world.getLivingEntities()) {
-        if (entity.getType() != EntityType.ZOMBIE) {
-          continue;
+    for (Arena arena : ArenaRegistry.getArenas()) {
+      if (arena.getArenaState() != ArenaState.IN_GAME || !arena.getMapRestorerManager().hasDoors()) {
+        continue;
+      }
+      List<Zombie> zombies = arena.getZombies();
+      for (int i = 0; i < zombies.size(); i++) {
+        Block door = findNearbyDoor(arena, zombies.get(i));
+        if (door != null) {
+          attackDoor(door);
         }
-        for (Block block : Utils.getNearbyBlocks(entity, 1)) {
-          if (!isDoor(block)) {
+      }
+    }
+  }
+
+  @Nullable
+  private Block findNearbyDoor(Arena arena, Zombie zombie) {
+    zombie.getLocation(locationBuffer);
+    int blockX = locationBuffer.getBlockX();
+    int blockY = locationBuffer.getBlockY();
+    int blockZ = locationBuffer.getBlockZ();
+    //zombie feet and head levels
+    for (int y = blockY; y <= blockY + 1; y++) {
+      for (int x = blockX - 1; x <= blockX + 1; x++) {
+        for (int z = blockZ - 1; z <= blockZ + 1; z++) {
+          if (!arena.getMapRestorerManager().isDoorPosition(x, y, z)) {
             continue;
           }
-          block.getLocation().getWorld().spawnParticle(Particle.SMOKE_LARGE, block.getLocation(), 5, 0.1, 0.1, 0.1);
-          Utils.playSound(block.getLocation(), "ENTITY_ZOMBIE_ATTACK_DOOR_WOOD", "ENTITY_ZOMBIE_ATTACK_WOODEN_DOOR");
-          if (random.nextInt(20) == 5) {
-            block.getLocation().getWorld().spawnParticle(Particle.SMOKE_LARGE, block.getLocation(), 15, 0.1, 0.1, 0.1);
-            block.getLocation().getWorld().spawnParticle(Particle.EXPLOSION_HUGE, block.getLocation(), 1, 0.1, 0.1, 0.1);
-            if (block.getRelative(BlockFace.UP).getType() == CompatMaterialConstants.getOakDoorBlock()) {
-              block.getRelative(BlockFace.UP).setType(Material.AIR);
-            } else if (block.getRelative(BlockFace.DOWN).getType() == CompatMaterialConstants.getOakDoorBlock()) {
-              block.getRelative(BlockFace.DOWN).setType(Material.AIR);
-            }
-            block.setType(Material.AIR);
-            Utils.playSound(block.getLocation(), "ENTITY_ZOMBIE_BREAK_DOOR_WOOD", "ENTITY_ZOMBIE_BREAK_WOODEN_DOOR");
+          Block block = locationBuffer.getWorld().getBlockAt(x, y, z);
+          if (isDoor(block)) {
+            return block;
           }
         }
       }
     }
+    return null;
+  }
+
+  private void attackDoor(Block block) {
+    block.getLocation().getWorld().spawnParticle(Particle.SMOKE_LARGE, block.getLocation(), 5, 0.1, 0.1, 0.1);
+    Utils.playSound(block.getLocation(), "ENTITY_ZOMBIE_ATTACK_DOOR_WOOD", "ENTITY_ZOMBIE_ATTACK_WOODEN_DOOR");
+    if (random.nextInt(20) != 5) {
+      return;
+    }
+    block.getLocation().getWorld().spawnParticle(Particle.SMOKE_LARGE, block.getLocation(), 15, 0.1, 0.1, 0.1);
+    block.getLocation().getWorld().spawnParticle(Particle.EXPLOSION_HUGE, block.getLocation(), 1, 0.1, 0.1, 0.1);
+    if (block.getRelative(BlockFace.UP).getType() == CompatMaterialConstants.getOakDoorBlock()) {
+      block.getRelative(BlockFace.UP).setType(Material.AIR);
+    } else if (block.getRelative(BlockFace.DOWN).getType() == CompatMaterialConstants.getOakDoorBlock()) {
+      block.getRelative(BlockFace.DOWN).setType(Material.AIR);
+    }
+    block.setType(Material.AIR);
+    Utils.playSound(block.getLocation(), "ENTITY_ZOMBIE_BREAK_DOOR_WOOD", "ENTITY_ZOMBIE_BREAK_WOODEN_DOOR");
   }
 
   private boolean isDoor(Block block) {
@@ -0,0 +1,127 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.creatures;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.ChatColor;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.Zombie;
+import org.jetbrains.annotations.Nullable;
+
+import pl.plajer.villagedefense.Main;
+import pl.plajerlair.commonsbox.string.StringFormatUtils;
+
+/**
+ * Renders zombie health bars from pre-built table of all bar states.
+ * Damaged zombies are only marked here, their names are updated once per tick
+ * and only if health bar state changed so every hit doesn't send metadata packet.
+ */
+public class ZombieHealthBarRenderer {
+
+  public static final int BAR_LENGTH = 50;
+
+  private static String[] bars = new String[BAR_LENGTH + 1];
+  private static boolean enabled = true;
+  private static Set<Zombie> dirtyZombies = new LinkedHashSet<>();
+  //entity id to rendered bar state, zombies without entry have full health bar
+  private static Map<Integer, Integer> renderedStates = new HashMap<>();
+  private static Main plugin;
+
+  private ZombieHealthBarRenderer() {
+  }
+
+  public static void init(Main plugin) {
+    ZombieHealthBarRenderer.plugin = plugin;
+    reload();
+  }
+
+  public static void reload() {
+    enabled = plugin.getConfig().getBoolean("Simple-Zombie-Health-Bar-Enabled", true);
+    for (int i = 0; i <= BAR_LENGTH; i++) {
+      bars[i] = StringFormatUtils.getProgressBar(i, BAR_LENGTH, BAR_LENGTH, "|", ChatColor.YELLOW + "", ChatColor.GRAY + "");
+    }
+    dirtyZombies.clear();
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return health bar of zombie with full health or null if health bars are disabled
+   */
+  @Nullable
+  public static String getFullHealthBar() {
+    return enabled ? bars[BAR_LENGTH] : null;
+  }
+
+  /**
+   * Marks zombie health bar to be updated in the next flush
+   *
+   * @param zombie damaged zombie
+   */
+  public static void markDirty(Zombie zombie) {
+    if (enabled) {
+      dirtyZombies.add(zombie);
+    }
+  }
+
+  /**
+   * Forgets rendered state of zombie, called when zombie is removed from arena
+   *
+   * @param zombie zombie to forget
+   */
+  public static void forget(Zombie zombie) {
+    renderedStates.remove(zombie.getEntityId());
+    dirtyZombies.remove(zombie);
+  }
+
+  /**
+   * Updates names of zombies damaged since last flush, called once per tick
+   */
+  public static void flush() {
+    if (dirtyZombies.isEmpty()) {
+      return;
+    }
+    for (Zombie zombie : dirtyZombies) {
+      if (zombie.isDead()) {
+        renderedStates.remove(zombie.getEntityId());
+        continue;
+      }
+      int state = getState(zombie.getHealth(), zombie.getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue());
+      Integer rendered = renderedStates.put(zombie.getEntityId(), state);
+      if (rendered == null ? state != BAR_LENGTH : rendered != state) {
+        zombie.setCustomName(bars[state]);
+      }
+    }
+    dirtyZombies.clear();
+  }
+
+  static int getState(double health, double maxHealth) {
+    if (maxHealth <= 0) {
+      return 0;
+    }
+    return Math.max(0, Math.min(BAR_LENGTH, (int) (BAR_LENGTH * (health / maxHealth))));
+  }
+
+}
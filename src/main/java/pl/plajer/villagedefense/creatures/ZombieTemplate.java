@@ -0,0 +1,189 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.creatures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Zombie;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.jetbrains.annotations.Nullable;
+
+import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.options.ArenaOption;
+
+/**
+ * Immutable spawn template of zombie type, contains equipment,
+ * drop chances, potion effects, attributes and pre-rendered name
+ * applied to every spawned zombie of the type.
+ * <p>
+ * Equipment items are never exposed, Bukkit copies them when they're set
+ * so single instance is shared by all spawned zombies.
+ *
+ * @see ZombieTemplateRegistry
+ */
+public class ZombieTemplate {
+
+  private static final float DEFAULT_DROP_CHANCE = -1;
+
+  private final ItemStack helmet;
+  private final ItemStack chestplate;
+  private final ItemStack leggings;
+  private final ItemStack boots;
+  private final ItemStack mainHand;
+  private final float helmetDropChance;
+  private final float mainHandDropChance;
+  private final List<PotionEffect> effects;
+  private final double followRange;
+  private final String customName;
+
+  private ZombieTemplate(Builder builder) {
+    this.helmet = builder.helmet;
+    this.chestplate = builder.chestplate;
+    this.leggings = builder.leggings;
+    this.boots = builder.boots;
+    this.mainHand = builder.mainHand;
+    this.helmetDropChance = builder.helmetDropChance;
+    this.mainHandDropChance = builder.mainHandDropChance;
+    this.effects = Collections.unmodifiableList(new ArrayList<>(builder.effects));
+    this.followRange = builder.followRange;
+    this.customName = builder.customName;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Applies template to freshly spawned zombie, max health
+   * is raised by arena zombie difficulty multiplier
+   *
+   * @param zombie zombie to apply template to
+   * @param arena  arena zombie is spawned in
+   */
+  public void apply(Zombie zombie, Arena arena) {
+    EntityEquipment equipment = zombie.getEquipment();
+    if (helmet != null) {
+      equipment.setHelmet(helmet);
+    }
+    if (chestplate != null) {
+      equipment.setChestplate(chestplate);
+    }
+    if (leggings != null) {
+      equipment.setLeggings(leggings);
+    }
+    if (boots != null) {
+      equipment.setBoots(boots);
+    }
+    if (mainHand != null) {
+      equipment.setItemInMainHand(mainHand);
+    }
+    if (helmetDropChance != DEFAULT_DROP_CHANCE) {
+      equipment.setHelmetDropChance(helmetDropChance);
+    }
+    if (mainHandDropChance != DEFAULT_DROP_CHANCE) {
+      equipment.setItemInMainHandDropChance(mainHandDropChance);
+    }
+    for (PotionEffect effect : effects) {
+      zombie.addPotionEffect(effect);
+    }
+    zombie.setRemoveWhenFarAway(false);
+    zombie.getAttribute(Attribute.GENERIC_FOLLOW_RANGE).setBaseValue(followRange);
+    AttributeInstance maxHealth = zombie.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+    maxHealth.setBaseValue(maxHealth.getBaseValue() + arena.getOption(ArenaOption.ZOMBIE_DIFFICULTY_MULTIPLIER));
+    if (customName != null) {
+      zombie.setCustomNameVisible(true);
+      zombie.setCustomName(customName);
+    }
+  }
+
+  /**
+   * @return name zombie spawns with or null if zombie has no custom name
+   */
+  @Nullable
+  public String getCustomName() {
+    return customName;
+  }
+
+  public static class Builder {
+
+    private ItemStack helmet;
+    private ItemStack chestplate;
+    private ItemStack leggings;
+    private ItemStack boots;
+    private ItemStack mainHand;
+    private float helmetDropChance = DEFAULT_DROP_CHANCE;
+    private float mainHandDropChance = DEFAULT_DROP_CHANCE;
+    private List<PotionEffect> effects = new ArrayList<>();
+    private double followRange = 200.0D;
+    private String customName;
+
+    private Builder() {
+    }
+
+    public Builder armor(@Nullable ItemStack helmet, @Nullable ItemStack chestplate, @Nullable ItemStack leggings, @Nullable ItemStack boots) {
+      this.helmet = helmet;
+      this.chestplate = chestplate;
+      this.leggings = leggings;
+      this.boots = boots;
+      return this;
+    }
+
+    public Builder mainHand(ItemStack mainHand) {
+      this.mainHand = mainHand;
+      return this;
+    }
+
+    public Builder helmetDropChance(float helmetDropChance) {
+      this.helmetDropChance = helmetDropChance;
+      return this;
+    }
+
+    public Builder mainHandDropChance(float mainHandDropChance) {
+      this.mainHandDropChance = mainHandDropChance;
+      return this;
+    }
+
+    public Builder effect(PotionEffect effect) {
+      effects.add(effect);
+      return this;
+    }
+
+    public Builder followRange(double followRange) {
+      this.followRange = followRange;
+      return this;
+    }
+
+    public Builder customName(@Nullable String customName) {
+      this.customName = customName;
+      return this;
+    }
+
+    public ZombieTemplate build() {
+      return new ZombieTemplate(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.creatures;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import pl.plajer.villagedefense.arena.wave.ZombieType;
+import pl.plajer.villagedefense.utils.Debugger;
+import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
+
+/**
+ * Holds spawn templates of all zombie types, templates are built
+ * on startup and on plugin reload so spawning doesn't create
+ * equipment or read config for every zombie.
+ */
+public class ZombieTemplateRegistry {
+
+  private static Map<ZombieType, ZombieTemplate> templates = new EnumMap<>(ZombieType.class);
+
+  private ZombieTemplateRegistry() {
+  }
+
+  /**
+   * Rebuilds all templates, health bar renderer must be reloaded first
+   */
+  public static void reload() {
+    //zombies always spawn with full health
+    String name = ZombieHealthBarRenderer.getFullHealthBar();
+    Map<ZombieType, ZombieTemplate> built = new EnumMap<>(ZombieType.class);
+    built.put(ZombieType.FAST, ZombieTemplate.builder().customName(name).build());
+    built.put(ZombieType.BABY, ZombieTemplate.builder().customName(name).build());
+    built.put(ZombieType.HARD, ZombieTemplate.builder().customName(name)
+        .armor(new ItemStack(Material.DIAMOND_HELMET), new ItemStack(Material.DIAMOND_CHESTPLATE),
+            new ItemStack(Material.DIAMOND_LEGGINGS), new ItemStack(Material.DIAMOND_BOOTS))
+        .build());
+    built.put(ZombieType.SOFT_HARD, ZombieTemplate.builder().customName(name)
+        .armor(new ItemStack(Material.IRON_HELMET), new ItemStack(Material.IRON_CHESTPLATE),
+            new ItemStack(Material.IRON_LEGGINGS), new ItemStack(Material.IRON_BOOTS))
+        .build());
+    built.put(ZombieType.PLAYER_BUSTER, ZombieTemplate.builder().customName(name)
+        .armor(new ItemStack(Material.TNT), XMaterial.GOLDEN_CHESTPLATE.parseItem(),
+            XMaterial.GOLDEN_LEGGINGS.parseItem(), XMaterial.GOLDEN_BOOTS.parseItem())
+        .helmetDropChance(0F).mainHandDropChance(0F)
+        .build());
+    built.put(ZombieType.GOLEM_BUSTER, ZombieTemplate.builder().customName(name)
+        .armor(new ItemStack(Material.TNT), null, null, null)
+        .helmetDropChance(0F).mainHandDropChance(0F)
+        .build());
+    built.put(ZombieType.HALF_INVISIBLE, ZombieTemplate.builder().customName(name)
+        .armor(null, null, null, new ItemStack(Material.CHAINMAIL_BOOTS))
+        .effect(new PotionEffect(PotionEffectType.INVISIBILITY, Integer.MAX_VALUE, 1))
+        .build());
+    built.put(ZombieType.KNOCKBACK_RESISTANT, ZombieTemplate.builder().customName(name)
+        .armor(new ItemStack(Material.DIAMOND_HELMET), new ItemStack(Material.DIAMOND_CHESTPLATE),
+            new ItemStack(Material.DIAMOND_LEGGINGS), new ItemStack(Material.DIAMOND_BOOTS))
+        .mainHand(XMaterial.GOLDEN_AXE.parseItem())
+        .build());
+    built.put(ZombieType.VILLAGER_SLAYER, ZombieTemplate.builder().customName(name)
+        .armor(new ItemStack(Material.CHAINMAIL_HELMET), new ItemStack(Material.CHAINMAIL_CHESTPLATE),
+            new ItemStack(Material.CHAINMAIL_LEGGINGS), new ItemStack(Material.CHAINMAIL_BOOTS))
+        .mainHand(new ItemStack(Material.EMERALD)).mainHandDropChance(0F)
+        .build());
+    templates = built;
+    Debugger.debug(Level.INFO, "[ZombieTemplateRegistry] Built {0} zombie spawn templates", templates.size());
+  }
+
+  public static ZombieTemplate getTemplate(ZombieType type) {
+    return templates.get(type);
+  }
+
+}
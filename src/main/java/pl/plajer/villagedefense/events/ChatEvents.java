@@ -18,14 +18,10 @@
 
 package pl.plajer.villagedefense.events;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.regex.Pattern;
 
 import me.clip.placeholderapi.PlaceholderAPI;
 
-import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -39,6 +35,7 @@ import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
 import pl.plajer.villagedefense.handlers.language.Messages;
+import pl.plajer.villagedefense.handlers.language.template.PlaceholderSet;
 import pl.plajer.villagedefense.user.User;
 
 /**
@@ -48,6 +45,12 @@ public class ChatEvents implements Listener {
 
   private Main plugin;
   private String[] regexChars = new String[] {"$", "\\"};
+  private PlaceholderSet<ChatMessage> chatPlaceholders = new PlaceholderSet<ChatMessage>()
+      .register("level", (chat, builder) -> builder.append(chat.user.getStat(StatsStorage.StatisticType.LEVEL)))
+      .register("kit", (chat, builder) -> builder.append(chat.user.isSpectator()
+          ? plugin.getChatManager().colorMessage(Messages.DEAD_TAG_ON_DEATH) : chat.user.getKit().getName()))
+      .register("player", (chat, builder) -> builder.append(chat.user.getPlayer().getName()))
+      .register("message", (chat, builder) -> builder.append(chat.message));
 
   public ChatEvents(Main plugin) {
     this.plugin = plugin;
@@ -56,31 +59,16 @@ public class ChatEvents implements Listener {
 
   @EventHandler
   public void onChatIngame(AsyncPlayerChatEvent event) {
+    //event is usually async, only concurrent indexes and immutable snapshots can be used here
     Arena arena = ArenaRegistry.getArena(event.getPlayer());
     if (arena == null) {
-      for (Arena loopArena : ArenaRegistry.getArenas()) {
-        for (Player player : loopArena.getPlayers()) {
-          if (event.getRecipients().contains(player) && !plugin.getArgumentsRegistry().getSpyChat().isSpyChatEnabled(player)) {
-            event.getRecipients().remove(player);
-          }
-        }
-      }
+      event.getRecipients().removeIf(player -> ArenaRegistry.isInArena(player)
+          && !plugin.getArgumentsRegistry().getSpyChat().isSpyChatEnabled(player));
       return;
     }
     if (plugin.getConfigPreferences().getOption(ConfigPreferences.Option.CHAT_FORMAT_ENABLED)) {
       event.setCancelled(true);
-      Iterator<Player> iterator = event.getRecipients().iterator();
-      List<Player> remove = new ArrayList<>();
-      while (iterator.hasNext()) {
-        Player player = iterator.next();
-        if (!plugin.getArgumentsRegistry().getSpyChat().isSpyChatEnabled(player)) {
-          remove.add(player);
-        }
-      }
-      for (Player player : remove) {
-        event.getRecipients().remove(player);
-      }
-      remove.clear();
+      event.getRecipients().removeIf(player -> !plugin.getArgumentsRegistry().getSpyChat().isSpyChatEnabled(player));
       String message;
       String eventMessage = event.getMessage();
       for (String regexChar : regexChars) {
@@ -89,14 +77,14 @@ public class ChatEvents implements Listener {
         }
       }
       message = formatChatPlaceholders(LanguageManager.getLanguageMessage("In-Game.Game-Chat-Format"), plugin.getUserManager().getUser(event.getPlayer()), eventMessage);
-      for (Player player : arena.getPlayers()) {
+      for (Player player : arena.getPlayersSnapshot()) {
         player.sendMessage(message);
       }
       Bukkit.getConsoleSender().sendMessage(message);
       return;
     }
     event.getRecipients().clear();
-    event.getRecipients().addAll(new ArrayList<>(arena.getPlayers()));
+    event.getRecipients().addAll(arena.getPlayersSnapshot());
     String message = event.getMessage().replace("%kit%", plugin.getUserManager().getUser(event.getPlayer()).getKit().getName());
     if (plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI") && PlaceholderAPI.containsPlaceholders(message)) {
       message = PlaceholderAPI.setPlaceholders(event.getPlayer(), message);
@@ -105,20 +93,23 @@ public class ChatEvents implements Listener {
   }
 
   private String formatChatPlaceholders(String message, User user, String saidMessage) {
-    String formatted = message;
-    formatted = plugin.getChatManager().colorRawMessage(formatted);
-    formatted = StringUtils.replace(formatted, "%level%", String.valueOf(user.getStat(StatsStorage.StatisticType.LEVEL)));
-    if (user.isSpectator()) {
-      formatted = StringUtils.replace(formatted, "%kit%", plugin.getChatManager().colorMessage(Messages.DEAD_TAG_ON_DEATH));
-    } else {
-      formatted = StringUtils.replace(formatted, "%kit%", user.getKit().getName());
-    }
-    formatted = StringUtils.replace(formatted, "%player%", user.getPlayer().getName());
-    formatted = StringUtils.replace(formatted, "%message%", saidMessage);
+    String formatted = chatPlaceholders.format(plugin.getChatManager().colorRawMessage(message), new ChatMessage(user, saidMessage));
     if (plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI") && PlaceholderAPI.containsPlaceholders(formatted)) {
       formatted = PlaceholderAPI.setPlaceholders(user.getPlayer(), formatted);
     }
     return formatted;
   }
 
+  private static class ChatMessage {
+
+    private final User user;
+    private final String message;
+
+    ChatMessage(User user, String message) {
+      this.user = user;
+      this.message = message;
+    }
+
+  }
+
 }
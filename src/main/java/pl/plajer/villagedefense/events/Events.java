@@ -20,12 +20,10 @@ package pl.plajer.villagedefense.events;
 
 import java.util.Map;
 
-import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.IronGolem;
 import org.bukkit.entity.ItemFrame;
@@ -68,18 +66,18 @@ import org.bukkit.inventory.ItemStack;
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.api.StatsStorage;
 import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.ArenaEntityRegistry;
 import pl.plajer.villagedefense.arena.ArenaManager;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
 import pl.plajer.villagedefense.arena.ArenaState;
 import pl.plajer.villagedefense.arena.options.ArenaOption;
+import pl.plajer.villagedefense.creatures.ZombieHealthBarRenderer;
 import pl.plajer.villagedefense.handlers.PermissionsManager;
 import pl.plajer.villagedefense.handlers.items.SpecialItem;
 import pl.plajer.villagedefense.handlers.language.Messages;
 import pl.plajer.villagedefense.user.User;
-import pl.plajer.villagedefense.utils.Utils;
 import pl.plajer.villagedefense.utils.constants.CompatMaterialConstants;
 import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
-import pl.plajerlair.commonsbox.string.StringFormatUtils;
 
 /**
  * Created by Tom on 16/08/2014.
@@ -95,12 +93,10 @@ public class Events implements Listener {
 
   @EventHandler
   public void onSpawn(CreatureSpawnEvent event) {
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      if (!event.getEntity().getWorld().equals(arena.getStartLocation().getWorld()) || event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.CUSTOM) {
-        continue;
-      }
-      event.setCancelled(true);
+    if (event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.CUSTOM || !ArenaRegistry.isArenaWorld(event.getEntity().getWorld())) {
+      return;
     }
+    event.setCancelled(true);
   }
 
   @EventHandler
@@ -168,11 +164,8 @@ public class Events implements Listener {
 
   @EventHandler
   public void onExplosionCancel(EntityExplodeEvent event) {
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      if (arena.getStartLocation().getWorld().getName().equals(event.getLocation().getWorld().getName())
-          && arena.getStartLocation().distance(event.getLocation()) < 300) {
-        event.blockList().clear();
-      }
+    if (ArenaRegistry.locate(event.getLocation()) != null) {
+      event.blockList().clear();
     }
   }
 
@@ -246,13 +239,8 @@ public class Events implements Listener {
   public void onDoorDrop(ItemSpawnEvent event) {
     if (event.getEntity().getItemStack().getType() == XMaterial.OAK_DOOR.parseMaterial()
         || event.getEntity().getItemStack().getType() == CompatMaterialConstants.getOakDoorItem()) {
-      for (Entity entity : Utils.getNearbyEntities(event.getLocation(), 20)) {
-        if (!(entity instanceof Player)) {
-          continue;
-        }
-        if (ArenaRegistry.getArena((Player) entity) != null) {
-          event.getEntity().remove();
-        }
+      if (ArenaRegistry.locate(event.getLocation()) != null) {
+        event.getEntity().remove();
       }
     }
   }
@@ -295,11 +283,9 @@ public class Events implements Listener {
         e.setCancelled(true);
       }
     } else if (e.getEntity() instanceof IronGolem || e.getEntity() instanceof Villager || e.getEntity() instanceof Wolf) {
-      for (Arena a : ArenaRegistry.getArenas()) {
-        if (a.getWolves().contains(e.getEntity()) || a.getVillagers().contains(e.getEntity()) || a.getIronGolems().contains(e.getEntity())) {
-          e.setCancelled(true);
-          return;
-        }
+      ArenaEntityRegistry.EntityOwner owner = ArenaEntityRegistry.getOwner(e.getEntity());
+      if (owner != null && owner.getRole() != ArenaEntityRegistry.EntityRole.ZOMBIE) {
+        e.setCancelled(true);
       }
     }
   }
@@ -325,17 +311,13 @@ public class Events implements Listener {
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onZombieHurt(EntityDamageEvent e) {
-    if (!(e.getEntity() instanceof Zombie) || !plugin.getConfig().getBoolean("Simple-Zombie-Health-Bar-Enabled", true)) {
+    if (!(e.getEntity() instanceof Zombie) || !ZombieHealthBarRenderer.isEnabled()) {
       return;
     }
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      if (!arena.getZombies().contains(e.getEntity())) {
-        continue;
-      }
-      e.getEntity().setCustomName(StringFormatUtils.getProgressBar((int) ((Zombie) e.getEntity()).getHealth(),
-          (int) ((Zombie) e.getEntity()).getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue(),
-          50, "|", ChatColor.YELLOW + "", ChatColor.GRAY + ""));
+    if (!ArenaEntityRegistry.isArenaEntity(e.getEntity(), ArenaEntityRegistry.EntityRole.ZOMBIE)) {
+      return;
     }
+    ZombieHealthBarRenderer.markDirty((Zombie) e.getEntity());
   }
 
   @EventHandler(priority = EventPriority.HIGHEST)
@@ -407,39 +389,29 @@ public class Events implements Listener {
 
   @EventHandler
   public void onRottenFleshDrop(InventoryPickupItemEvent e) {
-    if (e.getInventory().getType() != InventoryType.HOPPER) {
+    if (e.getInventory().getType() != InventoryType.HOPPER || !ArenaRegistry.isArenaWorld(e.getItem().getWorld())) {
       return;
     }
     if (e.getItem().getItemStack().getType() != Material.ROTTEN_FLESH) {
-      for (Arena arena : ArenaRegistry.getArenas()) {
-        if (e.getItem().getWorld().equals(arena.getStartLocation().getWorld())) {
-          e.getItem().remove();
-          e.getInventory().clear();
-          return;
-        }
-      }
-      return;
-    }
-    for (Entity entity : Utils.getNearbyEntities(e.getItem().getLocation(), 20)) {
-      if (!(entity instanceof Player)) {
-        continue;
-      }
-      Arena arena = ArenaRegistry.getArena((Player) entity);
-      if (arena == null) {
-        continue;
-      }
-      arena.addOptionValue(ArenaOption.ROTTEN_FLESH_AMOUNT, e.getItem().getItemStack().getAmount());
       e.getItem().remove();
-      e.setCancelled(true);
       e.getInventory().clear();
-      e.getItem().getLocation().getWorld().spawnParticle(Particle.CLOUD, e.getItem().getLocation(), 50, 2, 2, 2);
-      if (!arena.checkLevelUpRottenFlesh() || arena.getOption(ArenaOption.ROTTEN_FLESH_LEVEL) >= 30) {
-        return;
-      }
-      for (Player p : arena.getPlayers()) {
-        p.getAttribute(Attribute.GENERIC_MAX_HEALTH).setBaseValue(p.getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue() + 2.0);
-        p.sendMessage(plugin.getChatManager().getPrefix() + plugin.getChatManager().colorMessage(Messages.ROTTEN_FLESH_LEVEL_UP));
-      }
+      return;
+    }
+    Arena arena = ArenaRegistry.locate(e.getItem().getLocation());
+    if (arena == null || arena.getPlayers().isEmpty()) {
+      return;
+    }
+    arena.addOptionValue(ArenaOption.ROTTEN_FLESH_AMOUNT, e.getItem().getItemStack().getAmount());
+    e.getItem().remove();
+    e.setCancelled(true);
+    e.getInventory().clear();
+    e.getItem().getLocation().getWorld().spawnParticle(Particle.CLOUD, e.getItem().getLocation(), 50, 2, 2, 2);
+    if (!arena.checkLevelUpRottenFlesh() || arena.getOption(ArenaOption.ROTTEN_FLESH_LEVEL) >= 30) {
+      return;
+    }
+    for (Player p : arena.getPlayers()) {
+      p.getAttribute(Attribute.GENERIC_MAX_HEALTH).setBaseValue(p.getAttribute(Attribute.GENERIC_MAX_HEALTH).getBaseValue() + 2.0);
+      p.sendMessage(plugin.getChatManager().getPrefix() + plugin.getChatManager().colorMessage(Messages.ROTTEN_FLESH_LEVEL_UP));
     }
   }
 
@@ -456,11 +428,8 @@ public class Events implements Listener {
       return;
     }
 
-    for (Arena arena : ArenaRegistry.getArenas()) {
-      if (arena.getZombies().contains(e.getEntity())) {
-        e.setCancelled(true);
-        return;
-      }
+    if (ArenaEntityRegistry.isArenaEntity(e.getEntity(), ArenaEntityRegistry.EntityRole.ZOMBIE)) {
+      e.setCancelled(true);
     }
   }
 
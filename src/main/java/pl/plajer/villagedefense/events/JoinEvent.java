@@ -21,13 +21,14 @@ package pl.plajer.villagedefense.events;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerLoginEvent;
 
 import pl.plajer.villagedefense.ConfigPreferences;
 import pl.plajer.villagedefense.Main;
-import pl.plajer.villagedefense.api.StatsStorage;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
 import pl.plajer.villagedefense.handlers.PermissionsManager;
 import pl.plajer.villagedefense.utils.UpdateChecker;
@@ -45,11 +46,23 @@ public class JoinEvent implements Listener {
     plugin.getServer().getPluginManager().registerEvents(this, plugin);
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+    if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+      plugin.getUserManager().prefetchStatistics(event.getUniqueId(), event.getName());
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onLoginDenied(PlayerLoginEvent event) {
+    if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+      plugin.getUserManager().discardPrefetchedStatistics(event.getPlayer().getUniqueId());
+    }
+  }
+
   @EventHandler
   public void onJoin(PlayerJoinEvent event) {
-    for (StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
-      plugin.getUserManager().loadStatistic(plugin.getUserManager().getUser(event.getPlayer()), stat);
-    }
+    plugin.getUserManager().loadStatistics(plugin.getUserManager().getUser(event.getPlayer()));
     //load player inventory in case of server crash, file is deleted once loaded so if file was already
     //deleted player won't receive his backup, in case of crash he will get it back
     if (plugin.getConfigPreferences().getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED)) {
@@ -23,7 +23,6 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import pl.plajer.villagedefense.Main;
-import pl.plajer.villagedefense.api.StatsStorage;
 import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaManager;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
@@ -48,9 +47,7 @@ public class QuitEvent implements Listener {
       ArenaManager.leaveAttempt(event.getPlayer(), arena);
     }
     User user = plugin.getUserManager().getUser(event.getPlayer());
-    for (StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
-      plugin.getUserManager().saveStatistic(user, stat);
-    }
+    plugin.getUserManager().saveStatistics(user);
     plugin.getUserManager().removeUser(user);
 
     plugin.getArgumentsRegistry().getSpyChat().disableSpyChat(event.getPlayer());
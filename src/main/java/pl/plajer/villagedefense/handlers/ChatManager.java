@@ -18,8 +18,6 @@
 
 package pl.plajer.villagedefense.handlers;
 
-import org.apache.commons.lang.StringUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
@@ -27,8 +25,7 @@ import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
 import pl.plajer.villagedefense.handlers.language.Messages;
-import pl.plajer.villagedefense.utils.MessageUtils;
-import pl.plajer.villagedefense.utils.services.exception.ReportedException;
+import pl.plajer.villagedefense.handlers.language.template.PlaceholderSet;
 import pl.plajerlair.commonsbox.string.StringFormatUtils;
 
 /**
@@ -36,6 +33,19 @@ import pl.plajerlair.commonsbox.string.StringFormatUtils;
  */
 public class ChatManager {
 
+  private static final PlaceholderSet<Arena> ARENA_PLACEHOLDERS = new PlaceholderSet<Arena>()
+      .register("TIME", (arena, builder) -> builder.append(arena.getTimer()))
+      .register("FORMATTEDTIME", (arena, builder) -> builder.append(StringFormatUtils.formatIntoMMSS(arena.getTimer())))
+      .register("PLAYERSIZE", (arena, builder) -> builder.append(arena.getPlayers().size()))
+      .register("MAXPLAYERS", (arena, builder) -> builder.append(arena.getMaximumPlayers()))
+      .register("MINPLAYERS", (arena, builder) -> builder.append(arena.getMinimumPlayers()));
+  private static final PlaceholderSet<NumberMessage> NUMBER_PLACEHOLDERS = new PlaceholderSet<NumberMessage>()
+      .include(ARENA_PLACEHOLDERS, message -> message.arena)
+      .register("NUMBER", (message, builder) -> builder.append(message.number));
+  private static final PlaceholderSet<PlayerMessage> PLAYER_PLACEHOLDERS = new PlaceholderSet<PlayerMessage>()
+      .include(ARENA_PLACEHOLDERS, message -> message.arena)
+      .register("PLAYER", (message, builder) -> builder.append(message.player.getName()));
+
   private Main plugin;
   private String prefix;
 
@@ -82,44 +92,15 @@ public class ChatManager {
   }
 
   public String colorMessage(Messages message) {
-    try {
-      return ChatColor.translateAlternateColorCodes('&', LanguageManager.getLanguageMessage(message.getAccessor()));
-    } catch (NullPointerException ex) {
-      MessageUtils.errorOccurred();
-      Bukkit.getConsoleSender().sendMessage("Game message not found!");
-      if (LanguageManager.isDefaultLanguageUsed()) {
-        Bukkit.getConsoleSender().sendMessage("Please regenerate your language.yml file! If error still occurs report it to the developer!");
-      } else {
-        Bukkit.getConsoleSender().sendMessage("Locale message string not found! Please contact developer!");
-        new ReportedException(plugin, ex);
-      }
-      Bukkit.getConsoleSender().sendMessage("Access string: " + message.getAccessor());
-      return "ERR_MESSAGE_NOT_FOUND";
-    }
+    return LanguageManager.getColoredMessage(message);
   }
 
   public String formatMessage(Arena arena, String message, int integer) {
-    String returnString = message;
-    returnString = StringUtils.replace(returnString, "%NUMBER%", Integer.toString(integer));
-    returnString = colorRawMessage(formatPlaceholders(returnString, arena));
-    return returnString;
+    return colorRawMessage(NUMBER_PLACEHOLDERS.format(message, new NumberMessage(arena, integer)));
   }
 
   public String formatMessage(Arena arena, String message, Player player) {
-    String returnString = message;
-    returnString = StringUtils.replace(returnString, "%PLAYER%", player.getName());
-    returnString = colorRawMessage(formatPlaceholders(returnString, arena));
-    return returnString;
-  }
-
-  private String formatPlaceholders(String message, Arena arena) {
-    String returnString = message;
-    returnString = StringUtils.replace(returnString, "%TIME%", Integer.toString(arena.getTimer()));
-    returnString = StringUtils.replace(returnString, "%FORMATTEDTIME%", StringFormatUtils.formatIntoMMSS((arena.getTimer())));
-    returnString = StringUtils.replace(returnString, "%PLAYERSIZE%", Integer.toString(arena.getPlayers().size()));
-    returnString = StringUtils.replace(returnString, "%MAXPLAYERS%", Integer.toString(arena.getMaximumPlayers()));
-    returnString = StringUtils.replace(returnString, "%MINPLAYERS%", Integer.toString(arena.getMinimumPlayers()));
-    return returnString;
+    return colorRawMessage(PLAYER_PLACEHOLDERS.format(message, new PlayerMessage(arena, player)));
   }
 
   public void broadcastAction(Arena a, Player p, ActionType action) {
@@ -142,5 +123,29 @@ public class ChatManager {
     JOIN, LEAVE, DEATH
   }
 
+  private static class NumberMessage {
+
+    private final Arena arena;
+    private final int number;
+
+    NumberMessage(Arena arena, int number) {
+      this.arena = arena;
+      this.number = number;
+    }
+
+  }
+
+  private static class PlayerMessage {
+
+    private final Arena arena;
+    private final Player player;
+
+    PlayerMessage(Arena arena, Player player) {
+      this.arena = arena;
+      this.player = player;
+    }
+
+  }
+
 }
 
@@ -23,9 +23,13 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
@@ -36,6 +40,7 @@ import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.utils.MessageUtils;
 import pl.plajer.villagedefense.utils.constants.Constants;
 import pl.plajer.villagedefense.utils.services.ServiceRegistry;
+import pl.plajer.villagedefense.utils.services.exception.ReportedException;
 import pl.plajer.villagedefense.utils.services.locale.Locale;
 import pl.plajer.villagedefense.utils.services.locale.LocaleRegistry;
 import pl.plajer.villagedefense.utils.services.locale.LocaleService;
@@ -48,6 +53,7 @@ public class LanguageManager {
   private static Properties properties = new Properties();
   private static FileConfiguration languageConfig;
   private static boolean messagesIntegrityPassed = true;
+  private static volatile MessageCache messageCache = new MessageCache(new String[Messages.values().length]);
 
   private LanguageManager() {
   }
@@ -71,6 +77,37 @@ public class LanguageManager {
     if (isDefaultLanguageUsed()) {
       validateMessagesIntegrity();
     }
+    rebuildMessageCache();
+  }
+
+  /**
+   * Resolves and colors all messages at once, cache is swapped as a whole
+   * so readers always see either previous or new language state.
+   */
+  private static void rebuildMessageCache() {
+    Messages[] values = Messages.values();
+    String[] messages = new String[values.length];
+    for (Messages message : values) {
+      messages[message.ordinal()] = resolveMessage(message);
+    }
+    messageCache = new MessageCache(messages);
+  }
+
+  private static String resolveMessage(Messages message) {
+    try {
+      return ChatColor.translateAlternateColorCodes('&', getLanguageMessage(message.getAccessor()));
+    } catch (NullPointerException ex) {
+      MessageUtils.errorOccurred();
+      Bukkit.getConsoleSender().sendMessage("Game message not found!");
+      if (isDefaultLanguageUsed()) {
+        Bukkit.getConsoleSender().sendMessage("Please regenerate your language.yml file! If error still occurs report it to the developer!");
+      } else {
+        Bukkit.getConsoleSender().sendMessage("Locale message string not found! Please contact developer!");
+        new ReportedException(plugin, ex);
+      }
+      Bukkit.getConsoleSender().sendMessage("Access string: " + message.getAccessor());
+      return "ERR_MESSAGE_NOT_FOUND";
+    }
   }
 
   private static void validateMessagesIntegrity() {
@@ -185,15 +222,26 @@ public class LanguageManager {
    * Gets list of strings from language.yml flat file or locale if enabled
    *
    * @param path path to list
-   * @return raw list of language strings
+   * @return raw read-only list of language strings, resolved once per reload
    * @see pl.plajer.villagedefense.handlers.ChatManager
    */
   public static List<String> getLanguageList(String path) {
+    return messageCache.lists.computeIfAbsent(path, LanguageManager::resolveLanguageList);
+  }
+
+  private static List<String> resolveLanguageList(String path) {
     if (isDefaultLanguageUsed()) {
-      return languageConfig.getStringList(path);
-    } else {
-      return Arrays.asList(getLanguageMessage(path).split(";"));
+      return Collections.unmodifiableList(new ArrayList<>(languageConfig.getStringList(path)));
     }
+    return Collections.unmodifiableList(Arrays.asList(getLanguageMessage(path).split(";")));
+  }
+
+  /**
+   * @param message message to get
+   * @return message resolved and colored at load or last reload
+   */
+  public static String getColoredMessage(Messages message) {
+    return messageCache.messages[message.ordinal()];
   }
 
   /**
@@ -230,9 +278,22 @@ public class LanguageManager {
 
   public static void reloadConfig() {
     languageConfig = ConfigUtils.getConfig(plugin, Constants.Files.LANGUAGE.getName());
+    rebuildMessageCache();
   }
 
   public static Locale getPluginLocale() {
     return pluginLocale;
   }
+
+  private static class MessageCache {
+
+    private final String[] messages;
+    private final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+
+    MessageCache(String[] messages) {
+      this.messages = messages;
+    }
+
+  }
+
 }
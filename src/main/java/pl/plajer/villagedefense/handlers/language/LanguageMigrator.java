@@ -39,7 +39,7 @@ import pl.plajerlair.commonsbox.minecraft.migrator.MigratorUtils;
 public class LanguageMigrator {
 
   public static final int LANGUAGE_FILE_VERSION = 10;
-  public static final int CONFIG_FILE_VERSION = 8;
+  public static final int CONFIG_FILE_VERSION = 10;
   private Main plugin;
   private List<String> migratable = Arrays.asList(Constants.Files.CONFIG.getName(), Constants.Files.KITS.getName(),
       Constants.Files.KITS.getName(), Constants.Files.LANGUAGE.getName(), Constants.Files.SPECIAL_ITEMS.getName(), Constants.Files.MYSQL.getName());
@@ -116,6 +116,14 @@ public class LanguageMigrator {
               + "  Speed-Tiers:\r\n" + "    '1': 50\r\n" + "    '2': 100\r\n" + "    '3': 150\r\n" + "    '4': 250\r\n"
               + "  Final-Defense-Tiers:\r\n" + "    '1': 200\r\n" + "    '2': 350\r\n" + "  Swarm-Awareness-Tiers:\r\n" + "    '1': 200\r\n" + "    '2': 350");*/
           break;
+        case 8:
+          MigratorUtils.addNewLines(file, "# Limit of zombies alive at once in single arena\r\n# Zombies above the limit are spawned when alive ones are killed\r\n"
+              + "Zombies-Alive-Limit: 150\r\n# Limit of zombies alive at once in all arenas together\r\nZombies-Alive-Global-Limit: 500\r\n");
+          break;
+        case 9:
+          MigratorUtils.addNewLines(file, "# How often (in seconds) changed player stats should be written to MySQL database\r\n"
+              + "# Stats are also written when player leaves and when server stops\r\nDatabase-Save-Interval: 60\r\n");
+          break;
         default:
           break;
       }
@@ -0,0 +1,76 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.handlers.language.template;
+
+import java.util.List;
+
+/**
+ * Message parsed once into literal and placeholder segments,
+ * rendered in single pass into thread local builder.
+ *
+ * @param <C> type of context placeholders are resolved from
+ * @see PlaceholderSet
+ */
+public class MessageTemplate<C> {
+
+  private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+  //always one literal more than placeholders, literal i is placed before placeholder i
+  private final String[] literals;
+  private final String[] names;
+  private final PlaceholderResolver<C>[] resolvers;
+
+  @SuppressWarnings("unchecked")
+  MessageTemplate(List<String> literals, List<String> names, List<PlaceholderResolver<C>> resolvers) {
+    this.literals = literals.toArray(new String[0]);
+    this.names = names.toArray(new String[0]);
+    this.resolvers = resolvers.toArray(new PlaceholderResolver[0]);
+  }
+
+  public String render(C context) {
+    if (resolvers.length == 0) {
+      return literals[0];
+    }
+    StringBuilder builder = BUILDER.get();
+    //resolvers may render other templates, only our part of the builder is used
+    int start = builder.length();
+    for (int i = 0; i < resolvers.length; i++) {
+      builder.append(literals[i]);
+      resolvers[i].resolve(context, builder);
+    }
+    builder.append(literals[resolvers.length]);
+    String rendered = builder.substring(start);
+    builder.setLength(start);
+    return rendered;
+  }
+
+  /**
+   * @param name name of placeholder without percent signs
+   * @return true if template contains given placeholder
+   */
+  public boolean hasPlaceholder(String name) {
+    for (String placeholder : names) {
+      if (placeholder.equals(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.handlers.language.template;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Set of placeholders (written as %NAME% in messages) with their resolvers.
+ * Messages are compiled into templates once and cached, placeholders
+ * unknown to the set are kept in the message as they are.
+ * <p>
+ * Placeholders must be registered before set is used.
+ *
+ * @param <C> type of context placeholders are resolved from
+ */
+public class PlaceholderSet<C> {
+
+  private static final int MAX_CACHED_TEMPLATES = 512;
+
+  private final Map<String, PlaceholderResolver<C>> resolvers = new HashMap<>();
+  private final Map<String, MessageTemplate<C>> templates = new ConcurrentHashMap<>();
+
+  public PlaceholderSet<C> register(String name, PlaceholderResolver<C> resolver) {
+    resolvers.put(name, resolver);
+    return this;
+  }
+
+  /**
+   * Registers all placeholders of other set resolved from part of this set context
+   *
+   * @param other  set to include placeholders of
+   * @param mapper maps this set context to other set context
+   * @param <T>    type of other set context
+   * @return this set
+   */
+  public <T> PlaceholderSet<C> include(PlaceholderSet<T> other, Function<C, T> mapper) {
+    for (Map.Entry<String, PlaceholderResolver<T>> entry : other.resolvers.entrySet()) {
+      PlaceholderResolver<T> resolver = entry.getValue();
+      register(entry.getKey(), (context, builder) -> resolver.resolve(mapper.apply(context), builder));
+    }
+    return this;
+  }
+
+  public MessageTemplate<C> compile(String message) {
+    MessageTemplate<C> template = templates.get(message);
+    if (template != null) {
+      return template;
+    }
+    //messages are mostly constant language strings, limit is only a guard against dynamic ones
+    if (templates.size() >= MAX_CACHED_TEMPLATES) {
+      templates.clear();
+    }
+    template = parse(message);
+    templates.put(message, template);
+    return template;
+  }
+
+  public String format(String message, C context) {
+    return compile(message).render(context);
+  }
+
+  private MessageTemplate<C> parse(String message) {
+    List<String> literals = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    List<PlaceholderResolver<C>> parsedResolvers = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < message.length()) {
+      char c = message.charAt(i);
+      if (c == '%') {
+        int end = message.indexOf('%', i + 1);
+        if (end != -1) {
+          String name = message.substring(i + 1, end);
+          PlaceholderResolver<C> resolver = resolvers.get(name);
+          if (resolver != null) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+            names.add(name);
+            parsedResolvers.add(resolver);
+            i = end + 1;
+            continue;
+          }
+        }
+      }
+      literal.append(c);
+      i++;
+    }
+    literals.add(literal.toString());
+    return new MessageTemplate<>(literals, names, parsedResolvers);
+  }
+
+}
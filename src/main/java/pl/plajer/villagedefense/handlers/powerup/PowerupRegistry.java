@@ -83,7 +83,7 @@ public class PowerupRegistry {
         chatManager.colorMessage(Messages.POWERUPS_MAP_CLEAN_DESCRIPTION), XMaterial.BLAZE_POWDER, pickup -> {
       if (pickup.getArena().getZombies() != null) {
         ArenaUtils.removeSpawnedZombies(pickup.getArena());
-        pickup.getArena().getZombies().clear();
+        pickup.getArena().clearZombies();
       }
 
       for (Player p : pickup.getArena().getPlayers()) {
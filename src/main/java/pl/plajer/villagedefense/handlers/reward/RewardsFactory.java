@@ -25,7 +25,6 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 
-import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -34,6 +33,7 @@ import org.bukkit.entity.Player;
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
+import pl.plajer.villagedefense.handlers.language.template.PlaceholderSet;
 import pl.plajer.villagedefense.utils.Debugger;
 import pl.plajer.villagedefense.utils.constants.Constants;
 import pl.plajerlair.commonsbox.minecraft.configuration.ConfigUtils;
@@ -44,6 +44,13 @@ import pl.plajerlair.commonsbox.minecraft.engine.ScriptEngine;
  */
 public class RewardsFactory {
 
+  private static final PlaceholderSet<RewardTarget> COMMAND_PLACEHOLDERS = new PlaceholderSet<RewardTarget>()
+      .register("PLAYER", (target, builder) -> builder.append(target.player.getName()))
+      .register("ARENA-ID", (target, builder) -> builder.append(target.arena.getId()))
+      .register("MAPNAME", (target, builder) -> builder.append(target.arena.getMapName()))
+      .register("PLAYERAMOUNT", (target, builder) -> builder.append(target.arena.getPlayers().size()))
+      .register("WAVE", (target, builder) -> builder.append(target.arena.getWave()));
+
   private Set<Reward> rewards = new HashSet<>();
   private FileConfiguration config;
   private boolean enabled;
@@ -76,6 +83,7 @@ public class RewardsFactory {
     engine.setValue("player", player);
     engine.setValue("server", Bukkit.getServer());
     engine.setValue("arena", arena);
+    RewardTarget target = new RewardTarget(player, arena);
     for (Reward reward : rewards) {
       if (reward.getType() == type) {
         //reward isn't for this wave
@@ -86,9 +94,7 @@ public class RewardsFactory {
         if (reward.getChance() != -1 && ThreadLocalRandom.current().nextInt(0, 100) > reward.getChance()) {
           continue;
         }
-        String command = reward.getExecutableCode();
-        command = StringUtils.replace(command, "%PLAYER%", player.getName());
-        command = formatCommandPlaceholders(command, arena);
+        String command = COMMAND_PLACEHOLDERS.format(reward.getExecutableCode(), target);
         switch (reward.getExecutor()) {
           case CONSOLE:
             Bukkit.getServer().dispatchCommand(Bukkit.getConsoleSender(), command);
@@ -106,15 +112,6 @@ public class RewardsFactory {
     }
   }
 
-  private String formatCommandPlaceholders(String command, Arena arena) {
-    String formatted = command;
-    formatted = StringUtils.replace(formatted, "%ARENA-ID%", arena.getId());
-    formatted = StringUtils.replace(formatted, "%MAPNAME%", arena.getMapName());
-    formatted = StringUtils.replace(formatted, "%PLAYERAMOUNT%", String.valueOf(arena.getPlayers().size()));
-    formatted = StringUtils.replace(formatted, "%WAVE%", String.valueOf(arena.getWave()));
-    return formatted;
-  }
-
   private void registerRewards() {
     if (!enabled) {
       return;
@@ -149,4 +146,16 @@ public class RewardsFactory {
     Debugger.debug(Level.INFO, "[RewardsFactory] Registered all rewards took {0}ms", System.currentTimeMillis() - start);
   }
 
+  private static class RewardTarget {
+
+    private final Player player;
+    private final Arena arena;
+
+    RewardTarget(Player player, Arena arena) {
+      this.player = player;
+      this.arena = arena;
+    }
+
+  }
+
 }
@@ -138,7 +138,7 @@ public class ArenaRegisterComponent implements SetupComponent {
       ArenaRegistry.registerArena(arena);
       arena.start();
       for (Sign s : signsToUpdate) {
-        plugin.getSignManager().getArenaSigns().add(new ArenaSign(s, arena));
+        plugin.getSignManager().addArenaSign(new ArenaSign(s, arena));
       }
     }), 2, 1);
   }
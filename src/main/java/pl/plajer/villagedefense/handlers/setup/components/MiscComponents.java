@@ -106,7 +106,7 @@ public class MiscComponents implements SetupComponent {
         e.getWhoClicked().sendMessage(plugin.getChatManager().colorRawMessage("&cYou can ignore this warning and add sign with Shift + Left Click, but for now &c&loperation is cancelled"));
         return;
       }
-      plugin.getSignManager().getArenaSigns().add(new ArenaSign((Sign) location.getBlock().getState(), arena));
+      plugin.getSignManager().addArenaSign(new ArenaSign((Sign) location.getBlock().getState(), arena));
       player.sendMessage(plugin.getChatManager().getPrefix() + plugin.getChatManager().colorMessage(Messages.SIGNS_SIGN_CREATED));
       String signLoc = location.getBlock().getWorld().getName() + "," + location.getBlock().getX() + "," + location.getBlock().getY() + "," + location.getBlock().getZ() + ",0.0,0.0";
       List<String> locs = config.getStringList("instances." + arena.getId() + ".signs");
@@ -244,7 +244,7 @@ public class MiscComponents implements SetupComponent {
       e.getWhoClicked().closeInventory();
       if (e.getClick() == ClickType.SHIFT_RIGHT) {
         config.set("instances." + arena.getId() + ".doors", null);
-        arena.getMapRestorerManager().getGameDoorLocations().clear();
+        arena.getMapRestorerManager().clearDoors();
         player.sendMessage(plugin.getChatManager().colorRawMessage("&eDone | &aDoor locations deleted, you can add them again now!"));
         arena.setReady(false);
         ConfigUtils.saveConfig(plugin, config, Constants.Files.ARENAS.getName());
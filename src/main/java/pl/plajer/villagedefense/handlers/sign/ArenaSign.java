@@ -29,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.arena.Arena;
+import pl.plajer.villagedefense.arena.ArenaState;
 
 /**
  * Created for 1.14 compatibility purposes, it will cache block behind sign that will be
@@ -40,6 +41,9 @@ public class ArenaSign {
   private Sign sign;
   private Block behind;
   private Arena arena;
+  //new signs are rendered on the next sign update
+  private boolean dirty = true;
+  private ArenaState renderedState;
 
   public ArenaSign(Sign sign, Arena arena) {
     this.sign = sign;
@@ -94,4 +98,24 @@ public class ArenaSign {
     return arena;
   }
 
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  public void setDirty(boolean dirty) {
+    this.dirty = dirty;
+  }
+
+  /**
+   * @return arena state block behind sign was set for or null if it wasn't set yet
+   */
+  @Nullable
+  public ArenaState getRenderedState() {
+    return renderedState;
+  }
+
+  public void setRenderedState(ArenaState renderedState) {
+    this.renderedState = renderedState;
+  }
+
 }
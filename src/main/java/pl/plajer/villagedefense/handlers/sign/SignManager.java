@@ -19,12 +19,14 @@
 package pl.plajer.villagedefense.handlers.sign;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.logging.Level;
 
-import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -48,7 +50,9 @@ import pl.plajer.villagedefense.arena.ArenaState;
 import pl.plajer.villagedefense.handlers.PermissionsManager;
 import pl.plajer.villagedefense.handlers.language.LanguageManager;
 import pl.plajer.villagedefense.handlers.language.Messages;
+import pl.plajer.villagedefense.handlers.language.template.PlaceholderSet;
 import pl.plajer.villagedefense.utils.Debugger;
+import pl.plajer.villagedefense.utils.Utils;
 import pl.plajer.villagedefense.utils.constants.Constants;
 import pl.plajerlair.commonsbox.minecraft.compat.XMaterial;
 import pl.plajerlair.commonsbox.minecraft.configuration.ConfigUtils;
@@ -58,8 +62,15 @@ public class SignManager implements Listener {
 
   private Main plugin;
   private List<ArenaSign> arenaSigns = new ArrayList<>();
+  //world uid to packed block position of sign
+  private Map<UUID, Map<Long, ArenaSign>> signsByPosition = new HashMap<>();
   private Map<ArenaState, String> gameStateToString = new EnumMap<>(ArenaState.class);
   private List<String> signLines;
+  private PlaceholderSet<Arena> signPlaceholders = new PlaceholderSet<Arena>()
+      .register("mapname", (arena, builder) -> builder.append(arena.getMapName()))
+      .register("state", (arena, builder) -> builder.append(getStateName(arena)))
+      .register("playersize", (arena, builder) -> builder.append(arena.getPlayers().size()))
+      .register("maxplayers", (arena, builder) -> builder.append(arena.getMaximumPlayers()));
 
   public SignManager(Main plugin) {
     this.plugin = plugin;
@@ -91,7 +102,7 @@ public class SignManager implements Listener {
       for (int i = 0; i < signLines.size(); i++) {
         e.setLine(i, formatSign(signLines.get(i), arena));
       }
-      arenaSigns.add(new ArenaSign((Sign) e.getBlock().getState(), arena));
+      addArenaSign(new ArenaSign((Sign) e.getBlock().getState(), arena));
       e.getPlayer().sendMessage(plugin.getChatManager().getPrefix() + plugin.getChatManager().colorMessage(Messages.SIGNS_SIGN_CREATED));
       String location = e.getBlock().getWorld().getName() + "," + e.getBlock().getX() + "," + e.getBlock().getY() + "," + e.getBlock().getZ() + ",0.0,0.0";
       FileConfiguration config = ConfigUtils.getConfig(plugin, Constants.Files.ARENAS.getName());
@@ -105,26 +116,27 @@ public class SignManager implements Listener {
   }
 
   private String formatSign(String msg, Arena a) {
-    String formatted = msg;
-    formatted = StringUtils.replace(formatted, "%mapname%", a.getMapName());
-    if (a.getPlayers().size() >= a.getMaximumPlayers()) {
-      formatted = StringUtils.replace(formatted, "%state%", plugin.getChatManager().colorMessage(Messages.SIGNS_GAME_STATES_FULL_GAME));
-    } else {
-      formatted = StringUtils.replace(formatted, "%state%", gameStateToString.get(a.getArenaState()));
+    //map name may contain color codes so colors are translated after placeholders
+    return plugin.getChatManager().colorRawMessage(signPlaceholders.format(msg, a));
+  }
+
+  private String getStateName(Arena arena) {
+    if (arena.getPlayers().size() >= arena.getMaximumPlayers()) {
+      return plugin.getChatManager().colorMessage(Messages.SIGNS_GAME_STATES_FULL_GAME);
     }
-    formatted = StringUtils.replace(formatted, "%playersize%", String.valueOf(a.getPlayers().size()));
-    formatted = StringUtils.replace(formatted, "%maxplayers%", String.valueOf(a.getMaximumPlayers()));
-    formatted = plugin.getChatManager().colorRawMessage(formatted);
-    return formatted;
+    return gameStateToString.get(arena.getArenaState());
   }
 
   @EventHandler
   public void onSignDestroy(BlockBreakEvent e) {
+    if (!isSign(e.getBlock())) {
+      return;
+    }
     ArenaSign arenaSign = getArenaSignByBlock(e.getBlock());
     if (!e.getPlayer().hasPermission("villagedefense.admin.sign.break") || arenaSign == null) {
       return;
     }
-    arenaSigns.remove(arenaSign);
+    removeArenaSign(arenaSign);
     String location = e.getBlock().getWorld().getName() + "," + e.getBlock().getX() + "," + e.getBlock().getY() + "," + e.getBlock().getZ() + "," + "0.0,0.0";
     FileConfiguration config = ConfigUtils.getConfig(plugin, Constants.Files.ARENAS.getName());
     for (String arena : config.getConfigurationSection("instances").getKeys(false)) {
@@ -145,8 +157,11 @@ public class SignManager implements Listener {
 
   @EventHandler
   public void onJoinAttempt(PlayerInteractEvent e) {
+    if (e.getAction() != Action.RIGHT_CLICK_BLOCK || !isSign(e.getClickedBlock())) {
+      return;
+    }
     ArenaSign arenaSign = getArenaSignByBlock(e.getClickedBlock());
-    if (e.getAction() == Action.RIGHT_CLICK_BLOCK && e.getClickedBlock().getState() instanceof Sign && arenaSign != null) {
+    if (arenaSign != null) {
       Arena arena = arenaSign.getArena();
       if (arena == null) {
         return;
@@ -180,19 +195,37 @@ public class SignManager implements Listener {
     }
   }
 
+  private static boolean isSign(@Nullable Block block) {
+    //covers legacy SIGN_POST and WALL_SIGN as well as wood type signs of 1.14
+    return block != null && block.getType().name().contains("SIGN");
+  }
+
   @Nullable
   private ArenaSign getArenaSignByBlock(Block block) {
-    if (block == null) {
+    Map<Long, ArenaSign> worldSigns = signsByPosition.get(block.getWorld().getUID());
+    if (worldSigns == null) {
       return null;
     }
-    ArenaSign arenaSign = null;
-    for (ArenaSign sign : arenaSigns) {
-      if (sign.getSign().getLocation().equals(block.getLocation())) {
-        arenaSign = sign;
-        break;
-      }
+    return worldSigns.get(Utils.packBlockPosition(block.getX(), block.getY(), block.getZ()));
+  }
+
+  public void addArenaSign(ArenaSign arenaSign) {
+    Sign sign = arenaSign.getSign();
+    ArenaSign previous = signsByPosition.computeIfAbsent(sign.getWorld().getUID(), uid -> new HashMap<>())
+        .put(Utils.packBlockPosition(sign.getX(), sign.getY(), sign.getZ()), arenaSign);
+    if (previous != null) {
+      arenaSigns.remove(previous);
     }
-    return arenaSign;
+    arenaSigns.add(arenaSign);
+  }
+
+  public void removeArenaSign(ArenaSign arenaSign) {
+    Sign sign = arenaSign.getSign();
+    Map<Long, ArenaSign> worldSigns = signsByPosition.get(sign.getWorld().getUID());
+    if (worldSigns != null) {
+      worldSigns.remove(Utils.packBlockPosition(sign.getX(), sign.getY(), sign.getZ()), arenaSign);
+    }
+    arenaSigns.remove(arenaSign);
   }
 
   public void loadSigns() {
@@ -200,6 +233,7 @@ public class SignManager implements Listener {
     long start = System.currentTimeMillis();
 
     arenaSigns.clear();
+    signsByPosition.clear();
     FileConfiguration config = ConfigUtils.getConfig(plugin, Constants.Files.ARENAS.getName());
     if (!config.contains("instances")) {
       Debugger.debug(Level.WARNING, "No arena instances found. Signs won't be loaded");
@@ -210,7 +244,7 @@ public class SignManager implements Listener {
       for (String sign : config.getStringList("instances." + path + ".signs")) {
         Location loc = LocationSerializer.getLocation(sign);
         if (loc.getBlock().getState() instanceof Sign) {
-          arenaSigns.add(new ArenaSign((Sign) loc.getBlock().getState(), ArenaRegistry.getArena(path)));
+          addArenaSign(new ArenaSign((Sign) loc.getBlock().getState(), ArenaRegistry.getArena(path)));
           continue;
         }
         Debugger.debug(Level.WARNING, "Block at location {0} for arena {1} is not a sign!", LocationSerializer.locationToString(loc), path);
@@ -219,60 +253,92 @@ public class SignManager implements Listener {
     Debugger.debug(Level.INFO, "Sign load event finished took {0}ms", System.currentTimeMillis() - start);
   }
 
+  /**
+   * Marks signs of arena to be rendered again on the next sign update,
+   * called when arena state, players or map name change
+   *
+   * @param arena arena which signs are outdated
+   */
+  public void markDirty(Arena arena) {
+    for (ArenaSign arenaSign : arenaSigns) {
+      if (arenaSign.getArena() == arena) {
+        arenaSign.setDirty(true);
+      }
+    }
+  }
+
   private void updateSignScheduler() {
     Bukkit.getScheduler().runTaskTimer(plugin, () -> {
       Debugger.performance("SignUpdate", "[PerformanceMonitor] [SignUpdate] Updating signs");
       long start = System.currentTimeMillis();
 
       for (ArenaSign arenaSign : arenaSigns) {
-        Sign sign = arenaSign.getSign();
-        for (int i = 0; i < signLines.size(); i++) {
-          sign.setLine(i, formatSign(signLines.get(i), arenaSign.getArena()));
+        if (!arenaSign.isDirty()) {
+          continue;
         }
-        if (plugin.getConfig().getBoolean("Signs-Block-States-Enabled", true) && arenaSign.getBehind() != null) {
-          Block behind = arenaSign.getBehind();
-          switch (arenaSign.getArena().getArenaState()) {
-            case WAITING_FOR_PLAYERS:
-              behind.setType(XMaterial.WHITE_STAINED_GLASS.parseMaterial());
-              if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
-                behind.setData((byte) 0);
-              }
-              break;
-            case STARTING:
-              behind.setType(XMaterial.YELLOW_STAINED_GLASS.parseMaterial());
-              if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
-                behind.setData((byte) 4);
-              }
-              break;
-            case IN_GAME:
-              behind.setType(XMaterial.ORANGE_STAINED_GLASS.parseMaterial());
-              if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
-                behind.setData((byte) 1);
-              }
-              break;
-            case ENDING:
-              behind.setType(XMaterial.GRAY_STAINED_GLASS.parseMaterial());
-              if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
-                behind.setData((byte) 7);
-              }
-              break;
-            case RESTARTING:
-              behind.setType(XMaterial.BLACK_STAINED_GLASS.parseMaterial());
-              if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
-                behind.setData((byte) 15);
-              }
-              break;
-            default:
-              break;
-          }
+        Sign sign = arenaSign.getSign();
+        //signs in unloaded chunks stay dirty until their chunk is loaded
+        if (!sign.getWorld().isChunkLoaded(sign.getX() >> 4, sign.getZ() >> 4)) {
+          continue;
         }
-        sign.update();
+        renderSign(arenaSign);
+        arenaSign.setDirty(false);
       }
       Debugger.performance("SignUpdate", "[PerformanceMonitor] [SignUpdate] Updated signs took {0}ms", System.currentTimeMillis() - start);
     }, 10, 10);
   }
 
+  private void renderSign(ArenaSign arenaSign) {
+    Sign sign = arenaSign.getSign();
+    for (int i = 0; i < signLines.size(); i++) {
+      sign.setLine(i, formatSign(signLines.get(i), arenaSign.getArena()));
+    }
+    ArenaState state = arenaSign.getArena().getArenaState();
+    if (state != arenaSign.getRenderedState() && plugin.getConfig().getBoolean("Signs-Block-States-Enabled", true) && arenaSign.getBehind() != null) {
+      arenaSign.setRenderedState(state);
+      Block behind = arenaSign.getBehind();
+      switch (state) {
+        case WAITING_FOR_PLAYERS:
+          behind.setType(XMaterial.WHITE_STAINED_GLASS.parseMaterial());
+          if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
+            behind.setData((byte) 0);
+          }
+          break;
+        case STARTING:
+          behind.setType(XMaterial.YELLOW_STAINED_GLASS.parseMaterial());
+          if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
+            behind.setData((byte) 4);
+          }
+          break;
+        case IN_GAME:
+          behind.setType(XMaterial.ORANGE_STAINED_GLASS.parseMaterial());
+          if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
+            behind.setData((byte) 1);
+          }
+          break;
+        case ENDING:
+          behind.setType(XMaterial.GRAY_STAINED_GLASS.parseMaterial());
+          if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
+            behind.setData((byte) 7);
+          }
+          break;
+        case RESTARTING:
+          behind.setType(XMaterial.BLACK_STAINED_GLASS.parseMaterial());
+          if (plugin.is1_11_R1() || plugin.is1_12_R1()) {
+            behind.setData((byte) 15);
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    sign.update();
+  }
+
+  /**
+   * @return read-only list of arena signs, use addArenaSign and removeArenaSign to modify it
+   */
   public List<ArenaSign> getArenaSigns() {
-    return arenaSigns;
+    return Collections.unmodifiableList(arenaSigns);
   }
 }
@@ -104,7 +104,7 @@ public class CleanerKit extends PremiumKit implements Listener {
       return;
     }
     ArenaUtils.removeSpawnedZombies(arena);
-    arena.getZombies().clear();
+    arena.clearZombies();
     Utils.playSound(e.getPlayer().getLocation(), "ENTITY_ZOMBIE_DEATH", "ENTITY_ZOMBIE_DEATH");
     getPlugin().getChatManager().broadcastMessage(arena, getPlugin().getChatManager()
         .formatMessage(arena, getPlugin().getChatManager().colorMessage(Messages.KITS_CLEANER_CLEANED_MAP), e.getPlayer()));
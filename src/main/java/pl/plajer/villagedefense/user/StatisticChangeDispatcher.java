@@ -0,0 +1,82 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.user;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Bukkit;
+
+import pl.plajer.villagedefense.api.StatsStorage;
+import pl.plajer.villagedefense.api.event.player.VillagePlayerStatisticChangeEvent;
+import pl.plajer.villagedefense.arena.Arena;
+
+/**
+ * Collects statistic changes made during the tick and calls
+ * VillagePlayerStatisticChangeEvent once per changed user statistic at its end.
+ * Nothing is collected while the event has no listeners.
+ * <p>
+ * Changes may be recorded from async threads (e.g. MySQL loads),
+ * they're always dispatched on the main thread.
+ *
+ * @see pl.plajer.villagedefense.arena.ArenaTickScheduler
+ */
+public class StatisticChangeDispatcher {
+
+  private static final StatsStorage.StatisticType[] STATISTICS = StatsStorage.StatisticType.values();
+  //bit per changed statistic ordinal
+  private static Map<User, Integer> changes = new ConcurrentHashMap<>();
+
+  private StatisticChangeDispatcher() {
+  }
+
+  public static void recordChange(User user, StatsStorage.StatisticType stat) {
+    if (!hasListeners()) {
+      return;
+    }
+    changes.merge(user, 1 << stat.ordinal(), (previous, bit) -> previous | bit);
+  }
+
+  /**
+   * Calls events for all statistics changed since the last flush with their current values
+   */
+  public static void flush() {
+    if (changes.isEmpty()) {
+      return;
+    }
+    boolean listened = hasListeners();
+    for (User user : changes.keySet()) {
+      Integer mask = changes.remove(user);
+      if (mask == null || !listened) {
+        continue;
+      }
+      Arena arena = user.getArena();
+      for (StatsStorage.StatisticType stat : STATISTICS) {
+        if ((mask & (1 << stat.ordinal())) != 0) {
+          Bukkit.getPluginManager().callEvent(new VillagePlayerStatisticChangeEvent(arena, user.getPlayer(), stat, user.getStat(stat)));
+        }
+      }
+    }
+  }
+
+  private static boolean hasListeners() {
+    return VillagePlayerStatisticChangeEvent.getHandlerList().getRegisteredListeners().length != 0;
+  }
+
+}
@@ -18,16 +18,15 @@
 
 package pl.plajer.villagedefense.user;
 
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.api.StatsStorage;
-import pl.plajer.villagedefense.api.event.player.VillagePlayerStatisticChangeEvent;
 import pl.plajer.villagedefense.arena.Arena;
 import pl.plajer.villagedefense.arena.ArenaRegistry;
 import pl.plajer.villagedefense.handlers.language.Messages;
@@ -44,7 +43,9 @@ public class User {
   private Player player;
   private boolean spectator = false;
   private Kit kit = KitRegistry.getDefaultKit();
-  private Map<StatsStorage.StatisticType, Integer> stats = new EnumMap<>(StatsStorage.StatisticType.class);
+  private final int[] stats = new int[StatsStorage.StatisticType.values().length];
+  //bit per statistic ordinal, set when persistent statistic changes and cleared once it's saved
+  private final AtomicInteger dirtyStats = new AtomicInteger();
   private Map<String, Long> cooldowns = new HashMap<>();
 
   public User(Player player) {
@@ -84,33 +85,77 @@ public class User {
   }
 
   public int getStat(StatsStorage.StatisticType s) {
-    if (!stats.containsKey(s)) {
-      stats.put(s, 0);
-      return 0;
-    } else if (stats.get(s) == null) {
-      return 0;
-    }
-    return stats.get(s);
+    return stats[s.ordinal()];
   }
 
   public void setStat(StatsStorage.StatisticType s, int i) {
-    stats.put(s, i);
-
-    //statistics manipulation events are called async when using mysql
-    Bukkit.getScheduler().runTask(plugin, () -> {
-      VillagePlayerStatisticChangeEvent event = new VillagePlayerStatisticChangeEvent(getArena(), player, s, i);
-      Bukkit.getPluginManager().callEvent(event);
-    });
+    stats[s.ordinal()] = i;
+    markStatDirty(s);
+    StatisticChangeDispatcher.recordChange(this, s);
   }
 
   public void addStat(StatsStorage.StatisticType s, int i) {
-    stats.put(s, getStat(s) + i);
+    stats[s.ordinal()] += i;
+    markStatDirty(s);
+    StatisticChangeDispatcher.recordChange(this, s);
+  }
+
+  /**
+   * Sets statistic value retrieved from the storage, statistic won't be marked as changed
+   *
+   * @param s statistic to set
+   * @param i value from the storage
+   */
+  public void loadStat(StatsStorage.StatisticType s, int i) {
+    stats[s.ordinal()] = i;
+    StatisticChangeDispatcher.recordChange(this, s);
+  }
+
+  private void markStatDirty(StatsStorage.StatisticType s) {
+    if (!s.isPersistent()) {
+      return;
+    }
+    int bit = 1 << s.ordinal();
+    if (dirtyStats.getAndUpdate(mask -> mask | bit) == 0 && plugin != null && plugin.getUserManager() != null) {
+      plugin.getUserManager().onStatisticsChange(this);
+    }
+  }
+
+  /**
+   * @param s statistic to check
+   * @return true if persistent statistic changed since it was last saved
+   */
+  public boolean isStatDirty(StatsStorage.StatisticType s) {
+    return (dirtyStats.get() & (1 << s.ordinal())) != 0;
+  }
+
+  /**
+   * Marks statistic as saved, should be called before reading its value for the storage
+   * so changes made during the save are not lost
+   *
+   * @param s statistic that is being saved
+   */
+  public void clearStatDirty(StatsStorage.StatisticType s) {
+    int bit = 1 << s.ordinal();
+    dirtyStats.getAndUpdate(mask -> mask & ~bit);
+  }
+
+  /**
+   * Marks all statistics as saved
+   *
+   * @return bit mask of statistic ordinals changed since the last save
+   */
+  public int takeDirtyStats() {
+    return dirtyStats.getAndSet(0);
+  }
 
-    //statistics manipulation events are called async when using mysql
-    Bukkit.getScheduler().runTask(plugin, () -> {
-      VillagePlayerStatisticChangeEvent event = new VillagePlayerStatisticChangeEvent(getArena(), player, s, getStat(s));
-      Bukkit.getPluginManager().callEvent(event);
-    });
+  /**
+   * Marks statistics as changed again after failed save
+   *
+   * @param stats bit mask of statistic ordinals returned by takeDirtyStats
+   */
+  public void restoreDirtyStats(int stats) {
+    dirtyStats.getAndUpdate(mask -> mask | stats);
   }
 
   public boolean checkCanCastCooldownAndMessage(String cooldown) {
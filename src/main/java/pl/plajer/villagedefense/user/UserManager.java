@@ -19,7 +19,11 @@
 package pl.plajer.villagedefense.user;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
@@ -40,7 +44,9 @@ import pl.plajer.villagedefense.utils.Debugger;
 public class UserManager {
 
   private UserDatabase database;
-  private List<User> users = new ArrayList<>();
+  private final Map<UUID, User> users = new ConcurrentHashMap<>();
+  //users of arena players, rebuilt on every join and leave
+  private final Map<Arena, List<User>> arenaUsers = new ConcurrentHashMap<>();
 
   public UserManager(Main plugin) {
     if (plugin.getConfigPreferences().getOption(ConfigPreferences.Option.DATABASE_ENABLED)) {
@@ -53,31 +59,44 @@ public class UserManager {
 
   private void loadStatsForPlayersOnline() {
     for (Player player : Bukkit.getServer().getOnlinePlayers()) {
-      User user = getUser(player);
-      for (StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
-        loadStatistic(user, stat);
-      }
+      loadStatistics(getUser(player));
     }
   }
 
   public User getUser(Player player) {
-    for (User user : users) {
-      if (user.getPlayer().equals(player)) {
-        return user;
-      }
+    User user = users.get(player.getUniqueId());
+    if (user != null) {
+      return user;
     }
-    Debugger.debug(Level.INFO, "Registering new user {0} ({1})", player.getUniqueId(), player.getName());
-    User user = new User(player);
-    users.add(user);
-    return user;
+    return users.computeIfAbsent(player.getUniqueId(), uuid -> {
+      Debugger.debug(Level.INFO, "Registering new user {0} ({1})", uuid, player.getName());
+      return new User(player);
+    });
   }
 
+  /**
+   * @param arena arena to get users of
+   * @return read-only list of users playing in arena
+   */
   public List<User> getUsers(Arena arena) {
-    List<User> users = new ArrayList<>();
+    return arenaUsers.getOrDefault(arena, Collections.emptyList());
+  }
+
+  /**
+   * Rebuilds users view of target arena, called whenever arena players change
+   *
+   * @param arena arena which players have changed
+   */
+  public void updateArenaUsers(Arena arena) {
+    if (arena.getPlayers().isEmpty()) {
+      arenaUsers.remove(arena);
+      return;
+    }
+    List<User> arenaUserList = new ArrayList<>(arena.getPlayers().size());
     for (Player player : arena.getPlayers()) {
-      users.add(getUser(player));
+      arenaUserList.add(getUser(player));
     }
-    return users;
+    arenaUsers.put(arena, Collections.unmodifiableList(arenaUserList));
   }
 
   public void saveStatistic(User user, StatsStorage.StatisticType stat) {
@@ -87,15 +106,61 @@ public class UserManager {
     database.saveStatistic(user, stat);
   }
 
-  public void loadStatistic(User user, StatsStorage.StatisticType stat) {
-    if (!stat.isPersistent()) {
-      return;
+  /**
+   * Saves all changed statistics of user
+   *
+   * @param user user to save statistics of
+   */
+  public void saveStatistics(User user) {
+    database.saveStatistics(user);
+  }
+
+  /**
+   * Called when persistent statistic of user without pending changes is changed
+   *
+   * @param user user which statistics changed
+   */
+  void onStatisticsChange(User user) {
+    if (database instanceof MysqlManager) {
+      ((MysqlManager) database).getStatsWriter().queue(user);
+    }
+  }
+
+  /**
+   * Loads all persistent statistics of user, prefetched ones are applied immediately
+   *
+   * @param user user to load statistics for
+   */
+  public void loadStatistics(User user) {
+    database.loadStatistics(user);
+  }
+
+  /**
+   * Starts loading statistics of player that is about to join so they're ready on join.
+   * Must be called from async thread, blocks until statistics are loaded.
+   *
+   * @param uuid uuid of player logging in
+   * @param name name of player logging in
+   */
+  public void prefetchStatistics(UUID uuid, String name) {
+    if (database instanceof MysqlManager) {
+      ((MysqlManager) database).prefetchStatistics(uuid, name);
+    }
+  }
+
+  /**
+   * Discards statistics prefetched for player whose login was denied
+   *
+   * @param uuid uuid of player
+   */
+  public void discardPrefetchedStatistics(UUID uuid) {
+    if (database instanceof MysqlManager) {
+      ((MysqlManager) database).discardPrefetchedStatistics(uuid);
     }
-    database.loadStatistic(user, stat);
   }
 
   public void removeUser(User user) {
-    users.remove(user);
+    users.remove(user.getPlayer().getUniqueId(), user);
   }
 
   public UserDatabase getDatabase() {
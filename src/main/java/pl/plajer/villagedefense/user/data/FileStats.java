@@ -41,13 +41,38 @@ public class FileStats implements UserDatabase {
 
   @Override
   public void saveStatistic(User user, StatsStorage.StatisticType stat) {
+    if (!user.isStatDirty(stat)) {
+      return;
+    }
+    user.clearStatDirty(stat);
     config.set(user.getPlayer().getUniqueId().toString() + "." + stat.getName(), user.getStat(stat));
     ConfigUtils.saveConfig(plugin, config, Constants.Files.STATS.getName());
   }
 
   @Override
-  public void loadStatistic(User user, StatsStorage.StatisticType stat) {
-    user.setStat(stat, config.getInt(user.getPlayer().getUniqueId().toString() + "." + stat.getName(), 0));
+  public void saveStatistics(User user) {
+    boolean changed = false;
+    for (StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
+      if (!stat.isPersistent() || !user.isStatDirty(stat)) {
+        continue;
+      }
+      user.clearStatDirty(stat);
+      config.set(user.getPlayer().getUniqueId().toString() + "." + stat.getName(), user.getStat(stat));
+      changed = true;
+    }
+    if (changed) {
+      ConfigUtils.saveConfig(plugin, config, Constants.Files.STATS.getName());
+    }
+  }
+
+  @Override
+  public void loadStatistics(User user) {
+    String uuid = user.getPlayer().getUniqueId().toString();
+    for (StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
+      if (stat.isPersistent()) {
+        user.loadStat(stat, config.getInt(uuid + "." + stat.getName(), 0));
+      }
+    }
   }
 
 }
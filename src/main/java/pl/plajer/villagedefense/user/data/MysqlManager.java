@@ -21,17 +21,26 @@ package pl.plajer.villagedefense.user.data;
 import com.mysql.jdbc.exceptions.jdbc4.MySQLSyntaxErrorException;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 import pl.plajer.villagedefense.Main;
 import pl.plajer.villagedefense.api.StatsStorage;
 import pl.plajer.villagedefense.user.User;
+import pl.plajer.villagedefense.utils.Debugger;
 import pl.plajer.villagedefense.utils.MessageUtils;
 import pl.plajerlair.commonsbox.database.MysqlDatabase;
 
@@ -42,12 +51,19 @@ import pl.plajerlair.commonsbox.database.MysqlDatabase;
  */
 public class MysqlManager implements UserDatabase {
 
+  private static final StatsStorage.StatisticType[] STATISTICS = StatsStorage.StatisticType.values();
+  private static final String SELECT_STATISTICS_QUERY = buildSelectStatisticsQuery();
+  private static final long PREFETCH_TIMEOUT_SECONDS = 3;
   private Main plugin;
   private MysqlDatabase database;
+  private MysqlStatsWriter statsWriter;
+  //loads started before player joined, removed once applied
+  private final Map<UUID, CompletableFuture<LoadedStatistics>> loads = new ConcurrentHashMap<>();
 
   public MysqlManager(Main plugin) {
     this.plugin = plugin;
     database = plugin.getMysqlDatabase();
+    statsWriter = new MysqlStatsWriter(plugin, database);
     Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
       try (Connection connection = database.getConnection();
            Statement statement = connection.createStatement()) {
@@ -80,40 +96,171 @@ public class MysqlManager implements UserDatabase {
     });
   }
 
+  /**
+   * Statistics are written in the background by MysqlStatsWriter, this only queues the user
+   * so all changed statistics are written together
+   */
   @Override
   public void saveStatistic(User user, StatsStorage.StatisticType stat) {
-    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> database.executeUpdate("UPDATE playerstats SET " + stat.getName() + "=" + user.getStat(stat) + " WHERE UUID='" + user.getPlayer().getUniqueId().toString() + "';"));
+    if (user.isStatDirty(stat)) {
+      statsWriter.queue(user);
+    }
   }
 
   @Override
-  public void loadStatistic(User user, StatsStorage.StatisticType stat) {
+  public void saveStatistics(User user) {
+    statsWriter.queue(user);
+    statsWriter.flushLater();
+  }
+
+  /**
+   * Loads statistics of player that is about to join, other loads of the same player
+   * wait for this one instead of querying database again.
+   * Finished load left from previous login that never joined is replaced with a new one.
+   * Login waits at most PREFETCH_TIMEOUT_SECONDS, slower loads are applied once they finish.
+   * Must be called from async thread.
+   *
+   * @param uuid uuid of player logging in
+   * @param name name of player logging in
+   */
+  public void prefetchStatistics(UUID uuid, String name) {
+    try {
+      getLoad(uuid, name, false).get(PREFETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      Debugger.debug(Level.WARNING, "Statistics of {0} weren't loaded before login, they will be applied once loaded", name);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public void discardPrefetchedStatistics(UUID uuid) {
+    loads.remove(uuid);
+  }
+
+  @Override
+  public void loadStatistics(User user) {
+    UUID uuid = user.getPlayer().getUniqueId();
+    CompletableFuture<LoadedStatistics> load = getLoad(uuid, user.getPlayer().getName(), true);
+    if (load.isDone()) {
+      loads.remove(uuid, load);
+      applyStatistics(user, load.join());
+      return;
+    }
+    load.thenAccept(loaded -> Bukkit.getScheduler().runTask(plugin, () -> {
+      loads.remove(uuid, load);
+      applyStatistics(user, loaded);
+    }));
+  }
+
+  /**
+   * @param reuseFinished whether finished load may be returned instead of starting a new one
+   * @return in-flight (or finished if allowed) load of player statistics, new one is started otherwise
+   */
+  private CompletableFuture<LoadedStatistics> getLoad(UUID uuid, String name, boolean reuseFinished) {
+    CompletableFuture<LoadedStatistics> load = new CompletableFuture<>();
+    CompletableFuture<LoadedStatistics> current = loads.compute(uuid, (key, existing) ->
+        existing != null && (!existing.isDone() || reuseFinished) ? existing : load);
+    if (current != load) {
+      return current;
+    }
     Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-      try (Connection connection = database.getConnection();
-           Statement statement = connection.createStatement()) {
-        //insert into the database
-        if (!statement.executeQuery("SELECT UUID from playerstats WHERE UUID='" + user.getPlayer().getUniqueId().toString() + "'").next()) {
-          insertPlayer(user.getPlayer());
-        }
+      try {
+        load.complete(fetchStatistics(uuid, name));
+      } finally {
+        //never leave players waiting for the load, no-op if already completed
+        load.complete(null);
+      }
+    });
+    return load;
+  }
 
-        try (ResultSet set = statement.executeQuery("SELECT " + stat.getName() + " FROM playerstats WHERE UUID='" + user.getPlayer().getUniqueId().toString() + "'")) {
-          if (!set.next()) {
-            user.setStat(stat, 0);
-            return;
+  /**
+   * Selects all statistic columns at once, inserts player if there is no row yet
+   *
+   * @return loaded statistics or null if database is unreachable
+   */
+  @Nullable
+  private LoadedStatistics fetchStatistics(UUID uuid, String name) {
+    //changes from previous session of the player may still wait for the write
+    User previous = statsWriter.writePending(uuid);
+    if (previous != null) {
+      //they couldn't be written so previous session holds the latest values, next session takes them over
+      int[] values = new int[STATISTICS.length];
+      for (StatsStorage.StatisticType stat : STATISTICS) {
+        values[stat.ordinal()] = previous.getStat(stat);
+      }
+      return new LoadedStatistics(values, previous.takeDirtyStats());
+    }
+    int[] values = new int[STATISTICS.length];
+    try (Connection connection = database.getConnection()) {
+      try (PreparedStatement select = connection.prepareStatement(SELECT_STATISTICS_QUERY)) {
+        select.setString(1, uuid.toString());
+        try (ResultSet set = select.executeQuery()) {
+          if (set.next()) {
+            for (StatsStorage.StatisticType stat : STATISTICS) {
+              if (stat.isPersistent()) {
+                values[stat.ordinal()] = set.getInt(stat.getName());
+              }
+            }
+            return new LoadedStatistics(values, 0);
           }
-          user.setStat(stat, set.getInt(1));
         }
-      } catch (SQLException e) {
-        plugin.getLogger().log(Level.WARNING, "Could not connect to MySQL database! Cause: {0} ({1})", new Object[] {e.getSQLState(), e.getErrorCode()});
-        user.setStat(stat, 0);
       }
-    });
+      try (PreparedStatement insert = connection.prepareStatement("INSERT INTO playerstats (UUID,name,xp) VALUES (?,?,0)")) {
+        insert.setString(1, uuid.toString());
+        insert.setString(2, name);
+        insert.executeUpdate();
+      }
+      return new LoadedStatistics(values, 0);
+    } catch (SQLException e) {
+      plugin.getLogger().log(Level.WARNING, "Could not connect to MySQL database! Cause: {0} ({1})", new Object[] {e.getSQLState(), e.getErrorCode()});
+      return null;
+    }
   }
 
-  private void insertPlayer(Player player) {
-    database.executeUpdate("INSERT INTO playerstats (UUID,name,xp) VALUES ('" + player.getUniqueId().toString() + "','" + player.getName() + "',0)");
+  private void applyStatistics(User user, @Nullable LoadedStatistics loaded) {
+    for (StatsStorage.StatisticType stat : STATISTICS) {
+      if (stat.isPersistent()) {
+        user.loadStat(stat, loaded == null ? 0 : loaded.values[stat.ordinal()]);
+      }
+    }
+    if (loaded != null && loaded.unsaved != 0) {
+      user.restoreDirtyStats(loaded.unsaved);
+      statsWriter.queue(user);
+    }
+  }
+
+  private static String buildSelectStatisticsQuery() {
+    StringBuilder query = new StringBuilder("SELECT ");
+    for (StatsStorage.StatisticType stat : STATISTICS) {
+      if (stat.isPersistent()) {
+        query.append(stat.getName()).append(',');
+      }
+    }
+    query.setLength(query.length() - 1);
+    return query.append(" FROM playerstats WHERE UUID=?").toString();
   }
 
   public MysqlDatabase getDatabase() {
     return database;
   }
+
+  public MysqlStatsWriter getStatsWriter() {
+    return statsWriter;
+  }
+
+  private static class LoadedStatistics {
+
+    //values indexed by statistic ordinal
+    private final int[] values;
+    //statistics of previous session that still have to be saved
+    private final int unsaved;
+
+    LoadedStatistics(int[] values, int unsaved) {
+      this.values = values;
+      this.unsaved = unsaved;
+    }
+
+  }
+
 }
@@ -0,0 +1,269 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.user.data;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import pl.plajer.villagedefense.Main;
+import pl.plajer.villagedefense.api.StatsStorage;
+import pl.plajer.villagedefense.user.User;
+import pl.plajer.villagedefense.utils.Debugger;
+import pl.plajerlair.commonsbox.database.MysqlDatabase;
+
+/**
+ * Write-behind storage of user statistics in MySQL database.
+ * Users with changed statistics are queued and written in the background
+ * every Database-Save-Interval seconds, only changed columns are updated.
+ * Users with the same set of changed columns share single batched statement.
+ * <p>
+ * Failed writes are retried with the later flushes, delay between attempts doubles
+ * up to MAX_RETRY_DELAY_MILLIS. Users are kept until their statistics are written
+ * (or plugin is disabled) so changes of players who already quit are not lost.
+ */
+public class MysqlStatsWriter {
+
+  private static final int QUEUE_CAPACITY = 1000;
+  private static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private static final StatsStorage.StatisticType[] STATISTICS = StatsStorage.StatisticType.values();
+
+  private final Main plugin;
+  private final MysqlDatabase database;
+  private final BlockingQueue<User> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+  private final Set<User> queued = ConcurrentHashMap.newKeySet();
+  //users which write failed with time of the next attempt, they stay here until written
+  private final Map<User, Long> retries = new ConcurrentHashMap<>();
+  //failed writes per user, accessed only while holding writer lock
+  private final Map<User, Integer> attempts = new HashMap<>();
+  private final long intervalMillis;
+  private final BukkitTask task;
+
+  public MysqlStatsWriter(Main plugin, MysqlDatabase database) {
+    this.plugin = plugin;
+    this.database = database;
+    long interval = Math.max(1, plugin.getConfig().getInt("Database-Save-Interval", 60));
+    intervalMillis = TimeUnit.SECONDS.toMillis(interval);
+    task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, interval * 20L, interval * 20L);
+  }
+
+  /**
+   * Queues user to be written with the next flush, does nothing if user is already queued
+   *
+   * @param user user with changed statistics
+   */
+  public void queue(User user) {
+    if (!queued.add(user)) {
+      return;
+    }
+    if (queue.offer(user)) {
+      return;
+    }
+    //queue is full so database can't keep up, wait for free slot on async thread instead of blocking the server
+    Debugger.debug(Level.WARNING, "Statistics write queue is full, flushing before queueing {0}", user.getPlayer().getName());
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+      flush();
+      try {
+        queue.put(user);
+      } catch (InterruptedException e) {
+        queued.remove(user);
+        //picked up by the next flush instead
+        retries.put(user, 0L);
+        Thread.currentThread().interrupt();
+      }
+    });
+  }
+
+  /**
+   * Flushes queue on async thread as soon as possible, e.g. when player quits
+   */
+  public void flushLater() {
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, this::flush);
+  }
+
+  /**
+   * Writes all queued users and failed ones due to retry, must not be called from the main thread
+   */
+  public synchronized void flush() {
+    Set<User> users = new LinkedHashSet<>();
+    queue.drainTo(users);
+    long now = System.currentTimeMillis();
+    for (Map.Entry<User, Long> entry : retries.entrySet()) {
+      if (entry.getValue() <= now) {
+        users.add(entry.getKey());
+      }
+    }
+    if (users.isEmpty()) {
+      return;
+    }
+    //removed before taking changes so statistics changed during the write queue the user again
+    users.forEach(queued::remove);
+    write(users, true);
+  }
+
+  /**
+   * Stops background flushing and synchronously writes queued and given users.
+   * Used when plugin is disabled and async tasks are no longer allowed.
+   *
+   * @param users users to write together with the queued ones
+   */
+  public synchronized void shutdown(Collection<User> users) {
+    task.cancel();
+    Set<User> pending = new LinkedHashSet<>(users);
+    queue.drainTo(pending);
+    pending.addAll(retries.keySet());
+    queued.clear();
+    retries.clear();
+    write(pending, false);
+  }
+
+  /**
+   * Writes pending changes of the player right away, including ones waiting for retry,
+   * so statistics loaded for the next session of the player are not stale.
+   * There is at most one pending user per player as the next session takes over
+   * changes that couldn't be written.
+   *
+   * @param uuid uuid of the player
+   * @return previous session user which changes couldn't be written or null,
+   * returned user is no longer tracked by the writer
+   */
+  @Nullable
+  public synchronized User writePending(UUID uuid) {
+    Set<User> users = new LinkedHashSet<>();
+    for (User user : queued) {
+      if (user.getPlayer().getUniqueId().equals(uuid)) {
+        users.add(user);
+      }
+    }
+    for (User user : retries.keySet()) {
+      if (user.getPlayer().getUniqueId().equals(uuid)) {
+        users.add(user);
+      }
+    }
+    if (users.isEmpty()) {
+      return null;
+    }
+    for (User user : users) {
+      queue.remove(user);
+      queued.remove(user);
+      attempts.remove(user);
+    }
+    if (write(users, false)) {
+      return null;
+    }
+    return users.iterator().next();
+  }
+
+  /**
+   * @return false if database write failed, changes of the users are marked as not saved again
+   */
+  private boolean write(Collection<User> users, boolean retry) {
+    Map<User, Integer> changes = new LinkedHashMap<>();
+    Map<Integer, List<User>> usersByColumns = new HashMap<>();
+    for (User user : users) {
+      //failed write puts the user back with the next attempt time
+      retries.remove(user);
+      int mask = user.takeDirtyStats();
+      if (mask == 0) {
+        attempts.remove(user);
+        continue;
+      }
+      changes.put(user, mask);
+      usersByColumns.computeIfAbsent(mask, key -> new ArrayList<>()).add(user);
+    }
+    if (changes.isEmpty()) {
+      return true;
+    }
+    long start = System.currentTimeMillis();
+    try (Connection connection = database.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        for (Map.Entry<Integer, List<User>> entry : usersByColumns.entrySet()) {
+          writeBatch(connection, entry.getKey(), entry.getValue());
+        }
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+      changes.keySet().forEach(attempts::remove);
+      Debugger.debug(Level.INFO, "Saved statistics of {0} users in {1}ms", changes.size(), System.currentTimeMillis() - start);
+      return true;
+    } catch (SQLException e) {
+      plugin.getLogger().log(Level.WARNING, "Could not save statistics to MySQL database! Cause: {0} ({1})", new Object[] {e.getSQLState(), e.getErrorCode()});
+      for (Map.Entry<User, Integer> entry : changes.entrySet()) {
+        entry.getKey().restoreDirtyStats(entry.getValue());
+        if (retry) {
+          retry(entry.getKey());
+        }
+      }
+      return false;
+    }
+  }
+
+  private void writeBatch(Connection connection, int mask, List<User> users) throws SQLException {
+    StringBuilder query = new StringBuilder("UPDATE playerstats SET ");
+    for (StatsStorage.StatisticType stat : STATISTICS) {
+      if ((mask & (1 << stat.ordinal())) != 0) {
+        query.append(stat.getName()).append("=?,");
+      }
+    }
+    query.setLength(query.length() - 1);
+    query.append(" WHERE UUID=?");
+    try (PreparedStatement statement = connection.prepareStatement(query.toString())) {
+      for (User user : users) {
+        int index = 1;
+        for (StatsStorage.StatisticType stat : STATISTICS) {
+          if ((mask & (1 << stat.ordinal())) != 0) {
+            statement.setInt(index++, user.getStat(stat));
+          }
+        }
+        statement.setString(index, user.getPlayer().getUniqueId().toString());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private void retry(User user) {
+    int attempt = attempts.merge(user, 1, Integer::sum);
+    long delay = Math.min(intervalMillis << Math.min(attempt - 1, 16), MAX_RETRY_DELAY_MILLIS);
+    retries.put(user, System.currentTimeMillis() + delay);
+    Debugger.debug(Level.WARNING, "Statistics of {0} will be saved again in {1}s (attempt {2})", user.getPlayer().getName(), delay / 1000, attempt + 1);
+  }
+
+}
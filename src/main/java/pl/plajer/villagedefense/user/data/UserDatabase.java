@@ -37,11 +37,17 @@ public interface UserDatabase {
   void saveStatistic(User user, StatsStorage.StatisticType stat);
 
   /**
-   * Loads player statistic from yaml or MySQL storage based on user choice
+   * Saves all changed player statistics into yaml or MySQL storage based on user choice
    *
-   * @param user user to load statistic for
-   * @param stat type of stat to load from storage
+   * @param user user to retrieve statistics from
    */
-  void loadStatistic(User user, StatsStorage.StatisticType stat);
+  void saveStatistics(User user);
+
+  /**
+   * Loads all persistent player statistics from yaml or MySQL storage based on user choice
+   *
+   * @param user user to load statistics for
+   */
+  void loadStatistics(User user);
 
 }
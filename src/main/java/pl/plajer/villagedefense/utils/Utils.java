@@ -119,6 +119,19 @@ public class Utils {
     return radiusEntities.toArray(new Entity[0]);
   }
 
+  /**
+   * Packs block coordinates into single long, used as key in block position indexes
+   *
+   * @return packed x (26 bits), z (26 bits) and y (12 bits)
+   */
+  public static long packBlockPosition(int x, int y, int z) {
+    return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+  }
+
+  public static long packBlockPosition(Location location) {
+    return packBlockPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+  }
+
   public static List<String> splitString(String string, int max) {
     List<String> matchList = new ArrayList<>();
     Pattern regex = Pattern.compile(".{1," + max + "}(?:\\s|$)", Pattern.DOTALL);
@@ -25,7 +25,7 @@ public class Constants {
 
   public enum Files {
     ARENAS("arenas"), CONFIG("config"), KITS("kits"), LANGUAGE("language"),
-    SPECIAL_ITEMS("special_items"), MYSQL("mysql"), REWARDS("rewards"), STATS("stats");
+    SPECIAL_ITEMS("special_items"), MYSQL("mysql"), REWARDS("rewards"), STATS("stats"), WAVES("waves");
 
     private String name;
 
@@ -0,0 +1,80 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena;
+
+import org.bukkit.entity.Player;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import pl.plajer.villagedefense.MockUtils;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+
+public class ArenaEntityContainerTest {
+
+  private ArenaMock arena;
+  private ArenaEntityContainer<Player> container;
+
+  @Before
+  public void setUp() {
+    this.arena = MockUtils.getPluginMockSafe().getTestArena();
+    this.container = new ArenaEntityContainer<>(arena, ArenaEntityRegistry.EntityRole.WOLF);
+  }
+
+  @Test
+  public void addAndRemove() {
+    PlayerMock first = MockUtils.getDefaultPlayer();
+    PlayerMock second = MockUtils.getDefaultPlayer();
+    PlayerMock third = MockUtils.getDefaultPlayer();
+    Assert.assertTrue(container.add(first));
+    Assert.assertFalse(container.add(first));
+    container.add(second);
+    container.add(third);
+    Assert.assertEquals(3, container.size());
+    Assert.assertEquals(arena, ArenaEntityRegistry.getArena(second, ArenaEntityRegistry.EntityRole.WOLF));
+
+    Assert.assertTrue(container.remove(first));
+    Assert.assertFalse(container.remove(first));
+    Assert.assertFalse(container.contains(first));
+    Assert.assertNull(ArenaEntityRegistry.getArena(first));
+    Assert.assertEquals(2, container.getView().size());
+    Assert.assertTrue(container.getView().contains(second));
+    Assert.assertTrue(container.getView().contains(third));
+
+    container.remove(third);
+    Assert.assertEquals(second, container.get(0));
+    Assert.assertTrue(container.contains(second));
+  }
+
+  @Test
+  public void clear() {
+    PlayerMock player = MockUtils.getDefaultPlayer();
+    container.add(player);
+    container.clear();
+    Assert.assertTrue(container.isEmpty());
+    Assert.assertNull(ArenaEntityRegistry.getArena(player));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void viewIsReadOnly() {
+    container.getView().add(MockUtils.getDefaultPlayer());
+  }
+
+}
@@ -18,12 +18,14 @@
 
 package pl.plajer.villagedefense.arena;
 
+import org.bukkit.Location;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import pl.plajer.villagedefense.MockUtils;
 
+import be.seeseemelk.mockbukkit.WorldMock;
 import be.seeseemelk.mockbukkit.entity.PlayerMock;
 
 /**
@@ -45,23 +47,49 @@ public class ArenaRegistryTest {
   @Test
   public void isInArena() {
     Assert.assertFalse(ArenaRegistry.isInArena(player));
-    arena.getPlayers().add(player);
+    arena.addPlayer(player);
     Assert.assertTrue(ArenaRegistry.isInArena(player));
-    arena.getPlayers().remove(player);
+    arena.removePlayer(player);
   }
 
   @Test
   public void getArenaOfPlayer() {
     Assert.assertNull(ArenaRegistry.getArena(player));
-    arena.getPlayers().add(player);
+    arena.addPlayer(player);
     Assert.assertEquals(arena, ArenaRegistry.getArena(player));
-    arena.getPlayers().remove(player);
+    arena.removePlayer(player);
   }
 
   @Test
   public void getArenaById() {
     Assert.assertNull(ArenaRegistry.getArena("non-existing_Arena"));
     Assert.assertEquals(arena, ArenaRegistry.getArena("test-arena"));
+    Assert.assertEquals(arena, ArenaRegistry.getArena("TEST-Arena"));
   }
 
-}
\ No newline at end of file
+  @Test
+  public void locate() {
+    WorldMock world = new WorldMock();
+    Location previous = arena.getStartLocation();
+    arena.setStartLocation(new Location(world, 0, 64, 0));
+    Assert.assertEquals(arena, ArenaRegistry.locate(new Location(world, 20, 70, -20)));
+    Assert.assertNull(ArenaRegistry.locate(new Location(world, 500, 64, 500)));
+    arena.setStartLocation(previous);
+    Assert.assertNull(arena.getRegion());
+    Assert.assertNull(ArenaRegistry.locate(new Location(world, 20, 70, -20)));
+  }
+
+  @Test
+  public void getArenasByWorld() {
+    WorldMock world = new WorldMock();
+    Assert.assertFalse(ArenaRegistry.isArenaWorld(world));
+    Location previous = arena.getStartLocation();
+    arena.setStartLocation(new Location(world, 0, 64, 0));
+    Assert.assertTrue(ArenaRegistry.isArenaWorld(world));
+    Assert.assertTrue(ArenaRegistry.getArenas(world).contains(arena));
+    arena.setStartLocation(previous);
+    Assert.assertFalse(ArenaRegistry.isArenaWorld(world));
+    Assert.assertTrue(ArenaRegistry.getArenas(world).isEmpty());
+  }
+
+}
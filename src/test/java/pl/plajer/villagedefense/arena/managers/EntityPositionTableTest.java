@@ -0,0 +1,63 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.managers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EntityPositionTableTest {
+
+  @Test
+  public void putAndFind() {
+    EntityPositionTable table = new EntityPositionTable();
+    int slot = table.put(15, 1, 2, 3);
+    Assert.assertEquals(slot, table.find(15));
+    Assert.assertEquals(-1, table.find(16));
+    Assert.assertEquals(0, table.distanceSquared(slot, 1, 2, 3), 0.0);
+    Assert.assertEquals(9, table.distanceSquared(slot, 1, 5, 3), 0.0);
+    Assert.assertFalse(table.isFlagged(slot));
+    table.setFlagged(slot, true);
+    table.put(15, 4, 4, 4);
+    Assert.assertTrue(table.isFlagged(table.find(15)));
+  }
+
+  @Test
+  public void growAndRemove() {
+    EntityPositionTable table = new EntityPositionTable();
+    for (int id = 0; id < 1000; id++) {
+      table.put(id, id, 0, 0);
+    }
+    Assert.assertEquals(1000, table.size());
+    for (int id = 0; id < 1000; id += 2) {
+      table.remove(id);
+    }
+    Assert.assertEquals(500, table.size());
+    for (int id = 0; id < 1000; id++) {
+      int slot = table.find(id);
+      if (id % 2 == 0) {
+        Assert.assertEquals(-1, slot);
+      } else {
+        Assert.assertEquals(0, table.distanceSquared(slot, id, 0, 0), 0.0);
+      }
+    }
+    table.clear();
+    Assert.assertEquals(-1, table.find(1));
+  }
+
+}
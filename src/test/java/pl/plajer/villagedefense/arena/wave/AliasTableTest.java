@@ -0,0 +1,46 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.wave;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AliasTableTest {
+
+  @Test
+  public void sampleFollowsWeights() {
+    AliasTable table = new AliasTable(new double[] {1, 0, 3});
+    Random random = new Random(1);
+    int[] hits = new int[3];
+    for (int i = 0; i < 40000; i++) {
+      hits[table.sample(random)]++;
+    }
+    Assert.assertEquals(0, hits[1]);
+    Assert.assertEquals(10000, hits[0], 500);
+    Assert.assertEquals(30000, hits[2], 500);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noPositiveWeight() {
+    new AliasTable(new double[] {0, 0});
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.arena.wave;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WavePlanCompilerTest {
+
+  @Test
+  public void compileDefaultCurve() {
+    WavePlan plan = WavePlanCompiler.compile(12, 200, new Random(1));
+    Assert.assertEquals(200, plan.remaining());
+    int total = 0;
+    for (ZombieType type : ZombieType.values()) {
+      total += plan.getCount(type);
+    }
+    Assert.assertEquals(200, total);
+    //villager slayers appear only after wave 23
+    Assert.assertEquals(0, plan.getCount(ZombieType.VILLAGER_SLAYER));
+
+    ZombieType type = plan.next();
+    Assert.assertEquals(199, plan.remaining());
+    Assert.assertTrue(plan.getCount(type) >= 0);
+  }
+
+  @Test
+  public void golemBusterSubstituteIsNeverGolemBuster() {
+    WavePlan plan = WavePlanCompiler.compile(10, 1, new Random(1));
+    Random random = new Random(2);
+    int fast = 0;
+    for (int i = 0; i < 1000; i++) {
+      ZombieType type = plan.drawGolemBusterSubstitute(random);
+      Assert.assertNotEquals(ZombieType.GOLEM_BUSTER, type);
+      if (type == ZombieType.FAST) {
+        fast++;
+      }
+    }
+    //fast zombies keep their share of the wave instead of taking all golem buster slots
+    Assert.assertTrue(fast < 300);
+  }
+
+  @Test
+  public void defaultSpawnRateFollowsWeights() {
+    //weights sum up to 6.67, 41.5, 166 and 286.67 zombies per 20 seconds
+    Assert.assertEquals(1, WavePlanCompiler.getDefaultSpawnRate(4));
+    Assert.assertEquals(2, WavePlanCompiler.getDefaultSpawnRate(10));
+    Assert.assertEquals(8, WavePlanCompiler.getDefaultSpawnRate(20));
+    Assert.assertEquals(14, WavePlanCompiler.getDefaultSpawnRate(30));
+  }
+
+  @Test
+  public void earlyWaveHasOnlyBasicZombies() {
+    double[] weights = WavePlanCompiler.getDefaultWeights(1);
+    for (ZombieType type : ZombieType.values()) {
+      if (type == ZombieType.FAST || type == ZombieType.BABY) {
+        Assert.assertTrue(weights[type.ordinal()] > 0);
+      } else {
+        Assert.assertEquals(0, weights[type.ordinal()], 0.0);
+      }
+    }
+  }
+
+}
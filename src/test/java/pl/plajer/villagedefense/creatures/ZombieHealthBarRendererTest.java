@@ -0,0 +1,35 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.creatures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZombieHealthBarRendererTest {
+
+  @Test
+  public void getState() {
+    Assert.assertEquals(ZombieHealthBarRenderer.BAR_LENGTH, ZombieHealthBarRenderer.getState(20, 20));
+    Assert.assertEquals(25, ZombieHealthBarRenderer.getState(10, 20));
+    Assert.assertEquals(0, ZombieHealthBarRenderer.getState(0.1, 20));
+    Assert.assertEquals(0, ZombieHealthBarRenderer.getState(-1, 20));
+    Assert.assertEquals(ZombieHealthBarRenderer.BAR_LENGTH, ZombieHealthBarRenderer.getState(30, 20));
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Village Defense - Protect villagers from hordes of zombies
+ * Copyright (C) 2019  Plajer's Lair - maintained by Plajer and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pl.plajer.villagedefense.handlers.language.template;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PlaceholderSetTest {
+
+  private final PlaceholderSet<String> placeholders = new PlaceholderSet<String>()
+      .register("PLAYER", (name, builder) -> builder.append(name))
+      .register("NUMBER", (name, builder) -> builder.append(name.length()));
+
+  @Test
+  public void format() {
+    Assert.assertEquals("Hello Steve, you have 5 letters!", placeholders.format("Hello %PLAYER%, you have %NUMBER% letters!", "Steve"));
+    Assert.assertEquals("SteveSteve", placeholders.format("%PLAYER%%PLAYER%", "Steve"));
+  }
+
+  @Test
+  public void unknownPlaceholdersKept() {
+    Assert.assertEquals("100% of %UNKNOWN% for Steve %", placeholders.format("100% of %UNKNOWN% for %PLAYER% %", "Steve"));
+  }
+
+  @Test
+  public void valuesAreNotParsed() {
+    Assert.assertEquals("%NUMBER%", placeholders.format("%PLAYER%", "%NUMBER%"));
+  }
+
+  @Test
+  public void hasPlaceholder() {
+    Assert.assertTrue(placeholders.compile("Hi %PLAYER%").hasPlaceholder("PLAYER"));
+    Assert.assertFalse(placeholders.compile("Hi %PLAYER%").hasPlaceholder("NUMBER"));
+  }
+
+}
@@ -73,6 +73,21 @@ public class UserTest implements Listener {
     Assert.assertEquals(3, user.getStat(StatsStorage.StatisticType.LEVEL));
   }
 
+  @Test
+  public void dirtyStatisticTest() {
+    user.loadStat(StatsStorage.StatisticType.KILLS, 10);
+    Assert.assertFalse(user.isStatDirty(StatsStorage.StatisticType.KILLS));
+
+    user.addStat(StatsStorage.StatisticType.KILLS, 1);
+    user.addStat(StatsStorage.StatisticType.ORBS, 5);
+    Assert.assertTrue(user.isStatDirty(StatsStorage.StatisticType.KILLS));
+    Assert.assertFalse(user.isStatDirty(StatsStorage.StatisticType.ORBS));
+
+    user.clearStatDirty(StatsStorage.StatisticType.KILLS);
+    Assert.assertFalse(user.isStatDirty(StatsStorage.StatisticType.KILLS));
+    Assert.assertEquals(11, user.getStat(StatsStorage.StatisticType.KILLS));
+  }
+
   @Test
   public void cooldownTest() {
     Assert.assertTrue(user.checkCanCastCooldownAndMessage("random_ability"));
@@ -40,6 +40,7 @@ public class ConstantsTest {
     Assert.assertEquals("mysql", Constants.Files.MYSQL.getName());
     Assert.assertEquals("rewards", Constants.Files.REWARDS.getName());
     Assert.assertEquals("stats", Constants.Files.STATS.getName());
+    Assert.assertEquals("waves", Constants.Files.WAVES.getName());
   }
 
 }
\ No newline at end of file